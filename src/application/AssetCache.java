@@ -0,0 +1,143 @@
+package application;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.image.Image;
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.Media;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AssetCache, oyunun görsel ve seslerini bir kez yükleyip paylaşır.
+ * - preloadAll() sprite atlasını, görselleri ve sesleri sanal thread'lerde (virtual thread) eş zamanlı yükler.
+ * - Yükleme ilerlemesi JavaFX thread'inde güncellenen bir özellikle izlenebilir.
+ * - Sprite atlası zorunludur: yüklenemezse preloadAll() hatayla tamamlanır ve oyun başlatılmaz.
+ *   Logo ve sesler isteğe bağlıdır; hataları yazdırılır, ilk kullanımda tekrar denenir.
+ * - Önceden yüklenmemiş bir varlık istenirse o anda yüklenip önbelleğe alınır.
+ *
+ * Yollar classpath'e göredir ("/images/...", "/media/...").
+ */
+public class AssetCache {
+
+    public static final String KING_SHEET = "/images/king_sheet_combined.png";
+    public static final String LOGO = "/images/Marmara_Üniversitesi_logo.png";
+    public static final String HIT_SOUND = "/media/slime_hit.mp3";
+    public static final String CLICK_SOUND = "/media/Button Sound Effects (Copyright Free) [LVEWkghDh9A] (online-audio-converter.com).mp3";
+    public static final String OPENING_THEME = "/media/openingTheme.mp3";
+
+    private static final ConcurrentHashMap<String, Image> images = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, AudioClip> clips = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, Media> media = new ConcurrentHashMap<>();
+
+    private static final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0);
+    private static CompletableFuture<Void> preload;
+
+    private AssetCache() {
+    }
+
+    /**
+     * Tüm varlıkları eş zamanlı yüklemeye başlar. Birden fazla çağrılırsa aynı yükleme döner.
+     * JavaFX thread'inden çağrılmalıdır.
+     *
+     * @return Tüm varlıklar yüklendiğinde tamamlanan future; sprite atlası yüklenemezse hatayla tamamlanır
+     */
+    public static CompletableFuture<Void> preloadAll() {
+        if (preload != null) return preload;
+
+        List<Runnable> required = List.of(
+                SpriteAtlas::get);      // Tüm slime ve kral sheet'leri tek dokuda
+        List<Runnable> optional = List.of(
+                () -> image(LOGO),
+                () -> clip(HIT_SOUND),
+                () -> media(CLICK_SOUND),
+                () -> media(OPENING_THEME));
+
+        int total = required.size() + optional.size();
+        AtomicInteger done = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(total);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (Runnable job : required) {
+            futures.add(load(job, executor, done, total));
+        }
+        for (Runnable job : optional) {
+            // İsteğe bağlı varlığın hatası yüklemeyi bekletmez; ilk kullanımda tekrar denenir
+            futures.add(load(job, executor, done, total).exceptionally(error -> null));
+        }
+        executor.shutdown();    // Kuyruktaki işler bitince thread'ler kendiliğinden kapanır
+
+        preload = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+        return preload;
+    }
+
+    /**
+     * Bir yükleme işini başlatır; yalnızca başarıyla biten işler ilerlemeye sayılır.
+     */
+    private static CompletableFuture<Void> load(Runnable job, ExecutorService executor, AtomicInteger done, int total) {
+        return CompletableFuture.runAsync(job, executor).whenComplete((ignored, error) -> {
+            if (error != null) {
+                System.err.println("Varlık yüklenemedi: " + error.getMessage());
+                return;
+            }
+            double value = (double) done.incrementAndGet() / total;
+            Platform.runLater(() -> progress.set(value));
+        });
+    }
+
+    /**
+     * Yükleme ilerlemesi (0..1). JavaFX thread'inde güncellenir.
+     */
+    public static ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * Önceden yükleme başarıyla bitti mi?
+     */
+    public static boolean isPreloaded() {
+        return preload != null && preload.isDone() && !preload.isCompletedExceptionally();
+    }
+
+    // --- Varlık erişimi ---
+
+    /**
+     * Görseli döndürür; önbellekte yoksa (senkron) yükler.
+     */
+    public static Image image(String path) {
+        Image image = images.computeIfAbsent(path, p -> new Image(url(p), false));
+        if (image.isError()) {
+            images.remove(path, image);     // Sonraki erişimde tekrar denensin
+            System.err.println("Görsel yüklenemedi: " + path);
+        }
+        return image;
+    }
+
+    /**
+     * Kısa efekt sesini döndürür (aynı anda birden fazla kez çalınabilir).
+     */
+    public static AudioClip clip(String path) {
+        return clips.computeIfAbsent(path, p -> new AudioClip(url(p)));
+    }
+
+    /**
+     * Uzun ses/müzik kaynağını döndürür. Her çalma için yeni bir MediaPlayer oluşturulabilir.
+     */
+    public static Media media(String path) {
+        return media.computeIfAbsent(path, p -> new Media(url(p)));
+    }
+
+    private static String url(String path) {
+        URL resource = AssetCache.class.getResource(path);
+        if (resource == null) throw new IllegalArgumentException("Varlık bulunamadı: " + path);
+        return resource.toExternalForm();
+    }
+}
@@ -0,0 +1,72 @@
+package application;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * CacheFiles, ilk çalıştırmada üretilen önbellek dosyaları (derlenmiş seviyeler, sprite atlası)
+ * için ortak yardımcıları içerir: klasör seçimi, atomik yazma ve içerik özeti.
+ *
+ * Kök klasör "slimedefense.cacheDir" sistem özelliğiyle değiştirilebilir (varsayılan: ~/.slime-defense).
+ */
+final class CacheFiles {
+
+    private CacheFiles() {
+    }
+
+    /**
+     * Önbellek kök klasörü altındaki bir alt klasörü döndürür (oluşturmaz).
+     */
+    static Path directory(String name) {
+        String configured = System.getProperty("slimedefense.cacheDir");
+        Path root = configured != null && !configured.isBlank()
+                ? Path.of(configured)
+                : Path.of(System.getProperty("user.home"), ".slime-defense");
+        return root.resolve(name);
+    }
+
+    /**
+     * İçeriği önce geçici dosyaya yazar, sonra yerine taşır;
+     * yarım yazılmış bir dosya hiçbir zaman okunmaz.
+     */
+    static void writeAtomically(Path file, ByteBuffer content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = Files.createTempFile(file.getParent(), "cache", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (content.hasRemaining()) channel.write(content);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * SHA-256 özeti hesaplar. Birden fazla parça verilirse sırayla (uzunluklarıyla birlikte) özetlenir.
+     */
+    static byte[] sha256(byte[]... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(ByteBuffer.allocate(4).putInt(part.length).array());
+                digest.update(part);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 desteklenmiyor", e);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package application;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseButton;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Camera sınıfı, oyun alanı (harita + overlay) üzerinde kaydırma ve yakınlaştırma sağlar.
+ * - Fare tekerleği ile imleç etrafında zoom, sağ/orta tuşla sürükleyerek kaydırma yapılır.
+ * - Ok tuşları / WASD ile de kaydırılabilir.
+ * - Görüş alanı dışındaki düşman, mermi ve efektler çizilmez; simülasyonları çalışmaya devam eder.
+ */
+public class Camera {
+
+    private static final double MAX_ZOOM = 2.0;
+    private static final double ZOOM_STEP = 1.1;
+    private static final double KEY_PAN_STEP = 40;
+    private static final double CULL_MARGIN = 64;   // Kenardaki nesneler aniden kaybolmasın
+
+    private final Pane viewport;                    // Kırpılmış, sabit boyutlu görüş alanı
+    private final double worldWidth, worldHeight;   // Haritanın piksel boyutu
+    private final double viewWidth, viewHeight;
+
+    private final Scale scale = new Scale(1, 1, 0, 0);
+    private final Translate translate = new Translate(0, 0);
+    private final double minZoom;
+    private double zoom = 1;
+
+    private final Set<Node> culled = new HashSet<>();   // Kamera tarafından gizlenen düğümler
+    private double lastDragX, lastDragY;
+
+    /**
+     * Yeni bir kamera oluşturur.
+     *
+     * @param world       Kaydırılıp ölçeklenecek içerik (harita + overlay)
+     * @param worldWidth  İçeriğin piksel genişliği
+     * @param worldHeight İçeriğin piksel yüksekliği
+     * @param maxWidth    Görüş alanının alabileceği en büyük genişlik
+     * @param maxHeight   Görüş alanının alabileceği en büyük yükseklik
+     */
+    public Camera(Node world, double worldWidth, double worldHeight, double maxWidth, double maxHeight) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.viewWidth = Math.min(worldWidth, maxWidth);
+        this.viewHeight = Math.min(worldHeight, maxHeight);
+        this.minZoom = Math.min(1, Math.min(viewWidth / worldWidth, viewHeight / worldHeight));
+
+        world.getTransforms().addAll(translate, scale);
+
+        viewport = new Pane(world);
+        viewport.setPrefSize(viewWidth, viewHeight);
+        viewport.setMinSize(viewWidth, viewHeight);
+        viewport.setMaxSize(viewWidth, viewHeight);
+        viewport.setClip(new Rectangle(viewWidth, viewHeight));
+
+        clampPan();
+        installMouseControls();
+    }
+
+    /**
+     * Fare tekerleği (zoom) ve sağ/orta tuş sürükleme (pan) kontrollerini bağlar.
+     */
+    private void installMouseControls() {
+        viewport.setOnScroll(e -> {
+            double factor = e.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP;
+            zoomAt(zoom * factor, e.getX(), e.getY());
+            e.consume();
+        });
+
+        viewport.setOnMousePressed(e -> {
+            if (e.getButton() == MouseButton.SECONDARY || e.getButton() == MouseButton.MIDDLE) {
+                lastDragX = e.getX();
+                lastDragY = e.getY();
+            }
+        });
+
+        viewport.setOnMouseDragged(e -> {
+            if (e.getButton() == MouseButton.SECONDARY || e.getButton() == MouseButton.MIDDLE) {
+                panBy(e.getX() - lastDragX, e.getY() - lastDragY);
+                lastDragX = e.getX();
+                lastDragY = e.getY();
+            }
+        });
+    }
+
+    /**
+     * Klavye ile kaydırma. Tuş işlendiyse true döner.
+     */
+    public boolean handleKey(KeyCode code) {
+        switch (code) {
+            case LEFT, A -> panBy(KEY_PAN_STEP, 0);
+            case RIGHT, D -> panBy(-KEY_PAN_STEP, 0);
+            case UP, W -> panBy(0, KEY_PAN_STEP);
+            case DOWN, S -> panBy(0, -KEY_PAN_STEP);
+            case PLUS, EQUALS, ADD -> zoomAt(zoom * ZOOM_STEP, viewWidth / 2, viewHeight / 2);
+            case MINUS, SUBTRACT -> zoomAt(zoom / ZOOM_STEP, viewWidth / 2, viewHeight / 2);
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Görüş alanındaki bir noktayı sabit tutarak zoom yapar.
+     */
+    public void zoomAt(double newZoom, double anchorX, double anchorY) {
+        newZoom = Math.max(minZoom, Math.min(MAX_ZOOM, newZoom));
+        double ratio = newZoom / zoom;
+
+        translate.setX(anchorX - (anchorX - translate.getX()) * ratio);
+        translate.setY(anchorY - (anchorY - translate.getY()) * ratio);
+        zoom = newZoom;
+        scale.setX(zoom);
+        scale.setY(zoom);
+
+        clampPan();
+    }
+
+    /**
+     * Kamerayı ekran pikseli cinsinden kaydırır.
+     */
+    public void panBy(double dx, double dy) {
+        translate.setX(translate.getX() + dx);
+        translate.setY(translate.getY() + dy);
+        clampPan();
+    }
+
+    /**
+     * Harita görüş alanından küçükse ortalar, büyükse kenarların dışına kaydırmayı engeller.
+     */
+    private void clampPan() {
+        translate.setX(clampAxis(translate.getX(), worldWidth * zoom, viewWidth));
+        translate.setY(clampAxis(translate.getY(), worldHeight * zoom, viewHeight));
+    }
+
+    private static double clampAxis(double offset, double content, double view) {
+        if (content <= view) return (view - content) / 2;
+        return Math.max(view - content, Math.min(0, offset));
+    }
+
+    /**
+     * Görüş alanının dünya (harita) koordinatlarındaki karşılığı.
+     */
+    public Bounds getVisibleWorldBounds() {
+        double x = -translate.getX() / zoom;
+        double y = -translate.getY() / zoom;
+        return new BoundingBox(x, y, viewWidth / zoom, viewHeight / zoom);
+    }
+
+    /**
+     * Görüş alanı dışındaki overlay düğümlerini gizler, tekrar görünenleri açar.
+     * Oyun mantığı (hareket, hasar) bu düğümler gizliyken de çalışmaya devam eder.
+     *
+     * Park edilmiş (boş) yuvalar atlanır.
+     *
+     * @param layers Düşman, mermi ve efektlerin bulunduğu katmanlar
+     */
+    public void cull(RenderLayers layers) {
+        Bounds visible = getVisibleWorldBounds();
+        boolean showsEverything = visible.getMinX() <= 0 && visible.getMinY() <= 0
+                && visible.getMaxX() >= worldWidth && visible.getMaxY() >= worldHeight;
+
+        if (showsEverything && culled.isEmpty()) return;
+
+        Bounds area = new BoundingBox(
+                visible.getMinX() - CULL_MARGIN, visible.getMinY() - CULL_MARGIN,
+                visible.getWidth() + 2 * CULL_MARGIN, visible.getHeight() + 2 * CULL_MARGIN);
+
+        for (Pane layer : layers.panes()) {
+            for (Node node : layer.getChildren()) {
+                if (RenderLayers.isParked(node)) {
+                    culled.remove(node);    // Yeniden gösterildiğinde görünürlüğü show() belirler
+                    continue;
+                }
+
+                boolean inView = showsEverything || node.getBoundsInParent().intersects(area);
+                if (!inView && node.isVisible()) {
+                    node.setVisible(false);
+                    culled.add(node);
+                } else if (inView && culled.remove(node)) {
+                    node.setVisible(true);
+                }
+            }
+        }
+        culled.removeIf(node -> !layers.owns(node));
+    }
+
+    /**
+     * Düğüm kamera tarafından gizlendi mi? (Ekran dışındaki sprite animasyonlarını dondurmak için)
+     */
+    public boolean isCulled(Node node) {
+        return culled.contains(node);
+    }
+
+    // --- Getter'lar ---
+
+    public Pane getViewport() {
+        return viewport;
+    }
+
+    public double getZoom() {
+        return zoom;
+    }
+
+    public double getViewWidth() {
+        return viewWidth;
+    }
+
+    public double getViewHeight() {
+        return viewHeight;
+    }
+}
@@ -0,0 +1,148 @@
+package application;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CompiledLevel, LevelCompiler'ın ürettiği ikili seviye dosyasını bellek eşlemeli (mmap) okur.
+ * Dosya düzeni için LevelCompiler'a bakınız.
+ *
+ * Kaynak özeti yalnızca metnin değişmediğini kanıtlar, önbellek dosyasının kendisini değil. Bu yüzden
+ * sayılar, boyutlar ve hücreler ayırmadan önce LevelLoader'ın sınırlarıyla denetlenir; bozuk ya da elle
+ * değiştirilmiş dosya IOException ile reddedilir ve LevelCache metin ayrıştırıcısına döner.
+ */
+public class CompiledLevel {
+
+    private final byte[] sourceHash;
+    private final int width;
+    private final int height;
+    private final int[] path;
+    private final int[] spawns;
+    private final int[] exits;
+    private final List<Wave> waves;
+
+    /**
+     * Derlenmiş seviye dosyasını bellek eşlemeli açar ve okur.
+     *
+     * @throws IOException Dosya okunamazsa, sürümü farklıysa veya bozuksa
+     */
+    public static CompiledLevel map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer);
+        }
+    }
+
+    /**
+     * Tampondan derlenmiş seviyeyi okur (dosya veya bellek içi derleme sonucu).
+     *
+     * @throws IOException Tampon geçerli bir derlenmiş seviye değilse
+     */
+    public static CompiledLevel read(ByteBuffer buffer) throws IOException {
+        try {
+            return new CompiledLevel(buffer.duplicate());
+        } catch (RuntimeException e) {
+            throw new IOException("Derlenmiş seviye bozuk: " + e.getMessage(), e);
+        }
+    }
+
+    private CompiledLevel(ByteBuffer in) throws IOException {
+        if (in.remaining() < LevelCompiler.HEADER_SIZE || in.getInt() != LevelCompiler.MAGIC) {
+            throw new IOException("Derlenmiş seviye dosyası değil");
+        }
+        if (in.getInt() != LevelCompiler.VERSION) {
+            throw new IOException("Derlenmiş seviye sürümü uyumsuz");
+        }
+
+        sourceHash = new byte[LevelCompiler.HASH_LENGTH];
+        in.get(sourceHash);
+        width = readDimension(in);
+        height = readDimension(in);
+        int pathCount = in.getInt();
+        int spawnCount = in.getInt();
+        int exitCount = in.getInt();
+        int waveCount = in.getInt();
+
+        path = readCells(in, pathCount);
+        spawns = readCells(in, spawnCount);
+        exits = readCells(in, exitCount);
+
+        checkCount(in, waveCount, LevelCompiler.WAVE_RECORD_SIZE);
+        waves = new ArrayList<>(waveCount);
+        for (int i = 0; i < waveCount; i++) {
+            int slow = readCount(in);
+            int normal = readCount(in);
+            int fast = readCount(in);
+            double delayBetween = readDelay(in);
+            double startDelay = readDelay(in);
+            waves.add(new Wave(slow, normal, fast, delayBetween, startDelay));
+        }
+    }
+
+    private static int readDimension(ByteBuffer in) throws IOException {
+        int value = in.getInt();
+        if (value < 1 || value > LevelLoader.MAX_DIMENSION) {
+            throw new IOException("Derlenmiş seviyede geçersiz boyut: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * count tane hücre indeksi okur; her biri [0, width · height) aralığında olmalıdır.
+     */
+    private int[] readCells(ByteBuffer in, int count) throws IOException {
+        checkCount(in, count, Integer.BYTES);
+        int[] cells = new int[count];
+        in.asIntBuffer().get(cells);
+        in.position(in.position() + Integer.BYTES * count);
+
+        int cellCount = width * height;
+        for (int cell : cells) {
+            if (cell < 0 || cell >= cellCount) throw new IOException("Derlenmiş seviyede harita dışı hücre: " + cell);
+        }
+        return cells;
+    }
+
+    /**
+     * Ayırmadan önce kayıt sayısının negatif olmadığını ve kalan bayta sığdığını denetler.
+     */
+    private static void checkCount(ByteBuffer in, int count, int recordSize) throws IOException {
+        if (count < 0 || (long) count * recordSize > in.remaining()) {
+            throw new IOException("Derlenmiş seviyede geçersiz kayıt sayısı: " + count);
+        }
+    }
+
+    private static int readCount(ByteBuffer in) throws IOException {
+        int value = in.getInt();
+        if (value < 0) throw new IOException("Derlenmiş seviyede negatif düşman sayısı: " + value);
+        return value;
+    }
+
+    private static double readDelay(ByteBuffer in) throws IOException {
+        double value = in.getDouble();
+        if (!Double.isFinite(value) || value < 0) throw new IOException("Derlenmiş seviyede geçersiz gecikme: " + value);
+        return value;
+    }
+
+    /**
+     * Derlenmiş veriyi oyunun kullandığı LevelData'ya çevirir.
+     *
+     * @param source Hata mesajlarında kullanılacak kaynak adı
+     */
+    public LevelData toLevelData(String source) {
+        return new LevelData(source, width, height, path, spawns, exits, waves);
+    }
+
+    /**
+     * Dosyanın derlendiği metin kaynağının SHA-256 özeti.
+     */
+    public byte[] getSourceHash() {
+        return sourceHash.clone();
+    }
+}
@@ -0,0 +1,78 @@
+package application;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CpuMonitor, oyunun dakikada harcadığı işlemci süresini konsola yazar.
+ * Uzun süre açık kalan (kiosk) makinelerde menülerde ve dalga aralarında boşta kalınıp kalınmadığını
+ * görmek içindir: işlemci süresi, çekirdek başına kullanım, simülasyonun boşta geçirdiği oran ve
+ * render pulse sayısı raporlanır.
+ *
+ * Hata ayıklama içindir; "slimedefense.cpuReport=true" ile açılır (varsayılan kapalı).
+ */
+final class CpuMonitor {
+
+    private static final long PERIOD_SECONDS = 60;
+
+    private static ScheduledExecutorService scheduler;
+
+    private static long lastWall, lastCpu, lastIdle, lastPulses;
+
+    private CpuMonitor() {
+    }
+
+    /**
+     * Raporlamayı başlatır (bir kez). Oyun açılışında çağrılır.
+     */
+    static synchronized void start() {
+        if (scheduler != null) return;
+        if (!Boolean.parseBoolean(System.getProperty("slimedefense.cpuReport", "false"))) return;
+        if (processCpuNanos() < 0) return;     // Platform işlemci süresini desteklemiyor
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cpu-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        lastWall = System.nanoTime();
+        lastCpu = processCpuNanos();
+        lastIdle = Simulation.getIdleNanos();
+        lastPulses = GameLoop.getPulseCount();
+        scheduler.scheduleAtFixedRate(CpuMonitor::report, PERIOD_SECONDS, PERIOD_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private static void report() {
+        long wall = System.nanoTime();
+        long cpu = processCpuNanos();
+        long idle = Simulation.getIdleNanos();
+        long pulses = GameLoop.getPulseCount();
+
+        double wallMs = (wall - lastWall) / 1_000_000.0;
+        double cpuMs = (cpu - lastCpu) / 1_000_000.0;
+        double idleMs = (idle - lastIdle) / 1_000_000.0;
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        System.out.printf("[CPU] son %.0f sn: %.0f ms işlemci (%%%.1f / %d çekirdek), simülasyon boşta %%%.0f, %d render pulse%n",
+                wallMs / 1000, cpuMs, 100 * cpuMs / (wallMs * cores), cores,
+                100 * Math.min(1, idleMs / wallMs), pulses - lastPulses);
+
+        lastWall = wall;
+        lastCpu = cpu;
+        lastIdle = idle;
+        lastPulses = pulses;
+    }
+
+    /**
+     * Sürecin toplam işlemci süresi (nanosaniye); desteklenmiyorsa -1.
+     */
+    private static long processCpuNanos() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuTime();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,150 @@
+package application;
+
+import character.EnemyType;
+import character.SlimeEnemy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * DamageSystem sınıfı, kulelerden gelen tüm isabetleri bir tick boyunca biriktirir
+ * ve tek bir çözümleme aşamasında uygular.
+ * - Aynı düşmana gelen isabetler toplanır, ölümler bir kez hesaplanır.
+ * - Ölümler tek bir toplu olay olarak ekonomiye, efektlere, sese ve arayüze gönderilir.
+ * Biriktirme ve çözümleme simülasyon thread'inde yapılır.
+ */
+public class DamageSystem {
+
+    /**
+     * Bir düşmana bu tick içinde gelen toplam hasar.
+     */
+    private static class PendingHit {
+        final SlimeEnemy target;
+        double damage;
+        boolean laser;          // Son isabet lazerden mi geldi?
+        double deathX, deathY;  // Lazer ölüm animasyonunun konumu (overlay'e göre)
+
+        PendingHit(SlimeEnemy target) {
+            this.target = target;
+        }
+    }
+
+    /**
+     * Çözümleme sonucunda ölen bir düşman. Düşman nesnesi hemen havuza döndüğü için
+     * render tarafına gereken değerler kopyalanır.
+     */
+    private static class Kill {
+        final int id;
+        final EnemyType type;
+        final boolean laser;
+        final double x, y;
+
+        Kill(SlimeEnemy enemy, boolean laser, double x, double y) {
+            this.id = enemy.getId();
+            this.type = enemy.getType();
+            this.laser = laser;
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    // Ekleme sırası korunur → çözümleme her zaman aynı sırada yapılır
+    private static final LinkedHashMap<SlimeEnemy, PendingHit> pending = new LinkedHashMap<>();
+    private static final List<double[]> explosions = new ArrayList<>();
+
+    /**
+     * Mermi/füze isabeti kaydeder. Patlama efekti verilen konumda oynatılır.
+     *
+     * @param target Hedef düşman
+     * @param damage Hasar
+     * @param fxX    Patlama efektinin X konumu (overlay'e göre)
+     * @param fxY    Patlama efektinin Y konumu (overlay'e göre)
+     */
+    public static void queueHit(SlimeEnemy target, double damage, double fxX, double fxY) {
+        if (target == null || target.isDead()) return;
+        pending.computeIfAbsent(target, PendingHit::new).damage += damage;
+        explosions.add(new double[]{fxX, fxY});
+    }
+
+    /**
+     * Lazer isabeti kaydeder. Lazerle ölen düşmanın ölüm animasyonu verilen konumda oynatılır.
+     */
+    public static void queueLaserHit(SlimeEnemy target, double damage, double deathX, double deathY) {
+        if (target == null || target.isDead()) return;
+        PendingHit hit = pending.computeIfAbsent(target, PendingHit::new);
+        hit.damage += damage;
+        hit.laser = true;
+        hit.deathX = deathX;
+        hit.deathY = deathY;
+    }
+
+    /**
+     * Biriken isabetleri uygular ve ölümleri tek seferde yayınlar.
+     * Her tick'te bir kez Simulation tarafından çağrılır (simülasyon thread'i).
+     * Ölen düşmanlar döngüden sonra tek geçişte listeden çıkar; efekt, ses ve ölüm animasyonları
+     * tick başına tek bir olay olarak JavaFX thread'ine gönderilir.
+     */
+    public static void resolve() {
+        if (pending.isEmpty() && explosions.isEmpty()) return;
+
+        // 1) Hasarları topla ve ölümleri hesapla
+        List<Kill> kills = new ArrayList<>();
+        List<SlimeEnemy> killed = new ArrayList<>();
+        int reward = 0;
+        for (PendingHit hit : pending.values()) {
+            SlimeEnemy slime = hit.target;
+            if (slime.applyDamage(hit.damage)) {
+                double x = hit.laser ? hit.deathX : slime.getX();
+                double y = hit.laser ? hit.deathY : slime.getY();
+                kills.add(new Kill(slime, hit.laser, x, y));
+                reward += slime.getType().reward;
+                killed.add(slime);
+            }
+        }
+        pending.clear();
+
+        // Ölenler listeden tek geçişte çıkar ve havuza döner
+        EnemyManager.removeEnemies(killed);
+
+        // 2) Ekonomi ve arayüz: tüm ölümler için tek güncelleme
+        if (!kills.isEmpty()) {
+            GameState gameState = Game.getCurrentGameState();
+            if (gameState != null) {
+                gameState.onEnemiesKilled(kills.size(), reward);
+            }
+        }
+
+        // 3) Efektler, ses ve ölüm animasyonları JavaFX thread'inde
+        List<double[]> hits = explosions.isEmpty() ? List.of() : new ArrayList<>(explosions);
+        explosions.clear();
+        if (hits.isEmpty() && kills.isEmpty()) return;
+
+        long tick = Simulation.currentTick();
+
+        Simulation.post(() -> {
+            RenderLayers layers = TowerManager.getLayers();
+            if (layers == null) return;
+
+            // Parçacıklar her isabette, ses tick başına bir kez
+            if (!hits.isEmpty()) {
+                for (double[] pos : hits) {
+                    ExplosionEffect.playParticles(pos[0], pos[1], layers);
+                }
+                ExplosionEffect.playSound();
+            }
+
+            for (Kill kill : kills) {
+                WorldRenderer.enemyKilled(kill.id, kill.type, kill.laser, kill.x, kill.y, tick, layers);
+            }
+        });
+    }
+
+    /**
+     * Bekleyen tüm isabetleri atar. Simülasyon durduktan sonra çağrılır.
+     */
+    public static void clear() {
+        pending.clear();
+        explosions.clear();
+    }
+}
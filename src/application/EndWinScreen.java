@@ -52,7 +52,7 @@ public class EndWinScreen {
 	}
 	
 	private static void setupClick() {
-		Media media = new Media(WinScreen.class.getResource("/media/Button Sound Effects (Copyright Free) [LVEWkghDh9A] (online-audio-converter.com).mp3").toExternalForm());
+		Media media = AssetCache.media(AssetCache.CLICK_SOUND);
 		MediaPlayer clickSound = new MediaPlayer(media);// static method olduğu için üstteki satırda getClass yerine class kullandık çünkü static olduğundan direkt bu classdan türemiş
     	clickSound.setStartTime(Duration.seconds(18.8));
     	clickSound.setStopTime(Duration.seconds(20));
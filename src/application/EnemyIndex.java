@@ -0,0 +1,297 @@
+package application;
+
+import character.SlimeEnemy;
+import towers.TargetingMode;
+import towers.Tower;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * EnemyIndex, bir tick'teki canlı düşmanları yol sırasıyla tutan dizindir: önce bulundukları yol adımına,
+ * adım içinde de adım üzerindeki ilerlemeye göre sıralanır. TowerManager her tick'te hedef seçiminden önce
+ * bir kez kurar; tüm kuleler aynı dizini paylaşır.
+ *
+ * - collect(): kulenin PathCoverage aralıklarına düşen adaylar (ikili arama ile).
+ * - best(): bir hedefleme moduna göre menzildeki en iyi düşman. Bir adımın menzildeki kısmı yol sırasında
+ *   bitişik bir dilimdir; "ilk/son" dilimin ucundan, "en güçlü/en zayıf" ise can üzerine kurulu aralık
+ *   ağaçlarından okunur. Kule başına maliyet O(aralık sayısı · log n) olur; her kule için sıralama yapılmaz.
+ *
+ * Bir adıma bağlı olmayan düşmanlar (spawn anı, çıkış sonrası son parça) her sorguda ayrıca denetlenir.
+ * Eşitlikte düşman listesindeki sıra korunur; kesin menzil kontrolünü yine kule yapar.
+ *
+ * Kurulum simülasyon thread'inde yapılır; hedef seçimi sırasında yalnızca okunur (paralel sorgular güvenlidir).
+ * Düşmanlar her tick yer değiştirdiği için dizin olay başına güncellenmez, tick başına bir kez kurulur.
+ */
+public final class EnemyIndex {
+
+    /**
+     * Bir kulenin sorgu tamponları; kule başına bir tane tutulur, böylece paralel sorgular çakışmaz.
+     */
+    public static final class Query {
+        private int[] indices = new int[16];
+        private final List<SlimeEnemy> result = new ArrayList<>();
+    }
+
+    private List<SlimeEnemy> enemies = List.of();
+    private long[] entries = new long[64];      // (adım << 32) | liste sırası; adım, sonra ilerleme sırasıyla
+    private int count;
+    private int looseCount;                     // Adımı olmayanlar (adım -1) dizinin başındadır
+    private double[] progress = new double[64]; // Dizideki sıraya göre adım ilerlemesi
+    private int[] hp = new int[64];             // Dizideki sıraya göre can
+    private int[] strongest = new int[128];     // Can aralık ağaçları (yapraklar count..2·count-1):
+    private int[] weakest = new int[128];       // her düğüm alt aralığındaki en iyi dizi konumunu tutar
+
+    /**
+     * Dizini verilen düşman listesinden yeniden kurar. Liste, sorgular bitene kadar değişmemelidir.
+     */
+    public void rebuild(List<SlimeEnemy> enemies) {
+        this.enemies = enemies;
+        count = enemies.size();
+        if (entries.length < count) {
+            int capacity = Math.max(count, entries.length * 2);
+            entries = new long[capacity];
+            progress = new double[capacity];
+            hp = new int[capacity];
+            strongest = new int[capacity * 2];
+            weakest = new int[capacity * 2];
+        }
+
+        looseCount = 0;
+        for (int i = 0; i < count; i++) {
+            int step = enemies.get(i).getStep();
+            if (step < 0) looseCount++;
+            entries[i] = ((long) step << 32) | i;
+        }
+        Arrays.sort(entries, 0, count);
+
+        for (int pos = 0; pos < count; pos++) {
+            SlimeEnemy enemy = enemies.get((int) entries[pos]);
+            progress[pos] = enemy.getStepProgress();
+            hp[pos] = enemy.getHp();
+        }
+        sortStepsByProgress();
+        buildHealthTrees();
+    }
+
+    /**
+     * Her adımın kaydını ilerlemeye göre sıralar. Bir adımda az düşman bulunur; eklemeli sıralama yeter.
+     * Eşit ilerlemede liste sırası korunur (kararlı).
+     */
+    private void sortStepsByProgress() {
+        for (int pos = looseCount + 1; pos < count; pos++) {
+            long entry = entries[pos];
+            double p = progress[pos];
+            int h = hp[pos];
+
+            int at = pos;
+            while (at > looseCount && (entries[at - 1] >>> 32) == (entry >>> 32) && progress[at - 1] > p) {
+                entries[at] = entries[at - 1];
+                progress[at] = progress[at - 1];
+                hp[at] = hp[at - 1];
+                at--;
+            }
+            entries[at] = entry;
+            progress[at] = p;
+            hp[at] = h;
+        }
+    }
+
+    private void buildHealthTrees() {
+        for (int pos = 0; pos < count; pos++) {
+            strongest[count + pos] = pos;
+            weakest[count + pos] = pos;
+        }
+        for (int node = count - 1; node > 0; node--) {
+            strongest[node] = stronger(strongest[node * 2], strongest[node * 2 + 1]);
+            weakest[node] = weaker(weakest[node * 2], weakest[node * 2 + 1]);
+        }
+    }
+
+    /**
+     * Dizinin kurulduğu düşman listesi.
+     */
+    public List<SlimeEnemy> getEnemies() {
+        return enemies;
+    }
+
+    /**
+     * Kapsam aralıklarına düşen (ve adımı olmayan) düşmanları liste sırasıyla döndürür.
+     * Dönen liste sorgu nesnesine aittir; bir sonraki sorguda yeniden doldurulur.
+     */
+    public List<SlimeEnemy> collect(PathCoverage coverage, Query query) {
+        int found = 0;
+        int[] indices = query.indices;
+        if (indices.length < looseCount) indices = new int[Math.max(looseCount, indices.length * 2)];
+
+        for (int i = 0; i < looseCount; i++) {
+            indices[found++] = (int) entries[i];
+        }
+
+        for (int c = 0; c < coverage.size(); c++) {
+            int end = sliceEnd(c, coverage);
+            for (int at = sliceStart(c, coverage); at < end; at++) {
+                if (found == indices.length) indices = Arrays.copyOf(indices, found * 2);
+                indices[found++] = (int) entries[at];
+            }
+        }
+        query.indices = indices;
+
+        Arrays.sort(indices, 0, found);
+        List<SlimeEnemy> result = query.result;
+        result.clear();
+        for (int i = 0; i < found; i++) {
+            result.add(enemies.get(indices[i]));
+        }
+        return result;
+    }
+
+    /**
+     * Hedefleme moduna göre menzildeki en iyi düşman (eşitlikte listede önce gelen).
+     * Sonuç, candidates listesinde mod anahtarıyla doğrusal tarama yapmakla aynıdır.
+     *
+     * @return Menzilde düşman yoksa null
+     */
+    public SlimeEnemy best(PathCoverage coverage, Tower tower, TargetingMode mode) {
+        int bestIndex = -1;
+        double bestKey = Double.MAX_VALUE;
+
+        for (int pos = 0; pos < looseCount; pos++) {
+            SlimeEnemy enemy = enemies.get((int) entries[pos]);
+            if (enemy.isDead() || !tower.isInRange(enemy)) continue;
+
+            double key = mode.key(tower, enemy);
+            int index = (int) entries[pos];
+            if (key < bestKey || (key == bestKey && index < bestIndex)) {
+                bestKey = key;
+                bestIndex = index;
+            }
+        }
+
+        for (int c = 0; c < coverage.size(); c++) {
+            // Aralık kenarındaki tolerans payını kes; daire dışbükey olduğu için arada kalanlar menzildedir
+            int lo = sliceStart(c, coverage), hi = sliceEnd(c, coverage);
+            while (lo < hi && !inRange(tower, lo)) lo++;
+            while (hi > lo && !inRange(tower, hi - 1)) hi--;
+            if (lo == hi) continue;
+
+            int pos = switch (mode) {
+                case FIRST -> leading(lo, hi);
+                case LAST -> lo;                            // Eşit ilerlemede listede önce gelen en solda
+                case STRONGEST -> query(strongest, lo, hi, true);
+                case WEAKEST -> query(weakest, lo, hi, false);
+                case CLOSEST -> closest(tower, lo, hi);
+            };
+
+            SlimeEnemy enemy = enemies.get((int) entries[pos]);
+            double key = mode.key(tower, enemy);
+            int index = (int) entries[pos];
+            if (key < bestKey || (key == bestKey && index < bestIndex)) {
+                bestKey = key;
+                bestIndex = index;
+            }
+        }
+        return bestIndex < 0 ? null : enemies.get(bestIndex);
+    }
+
+    /**
+     * Dilimde en ileride olan (çıkışa en yakın) düşman; eşit ilerlemede listede önce gelen.
+     */
+    private int leading(int lo, int hi) {
+        int pos = hi - 1;
+        while (pos > lo && progress[pos - 1] == progress[hi - 1]) pos--;
+        return pos;
+    }
+
+    /**
+     * Dilimdeki en yakın düşman. Düz bir adım üzerinde kuleye uzaklık tek tepelidir;
+     * eşitliklerde liste sırası gerektiği için dilim doğrusal taranır (dilimler kısadır).
+     */
+    private int closest(Tower tower, int lo, int hi) {
+        int best = lo;
+        double bestKey = Double.MAX_VALUE;
+        for (int pos = lo; pos < hi; pos++) {
+            double key = TargetingMode.CLOSEST.key(tower, enemies.get((int) entries[pos]));
+            if (key < bestKey || (key == bestKey && (int) entries[pos] < (int) entries[best])) {
+                bestKey = key;
+                best = pos;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Can ağacında [lo, hi) dizi aralığının en iyisi.
+     */
+    private int query(int[] tree, int lo, int hi, boolean strong) {
+        int best = -1;
+        for (int l = lo + count, r = hi + count; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) best = pick(best, tree[l++], strong);
+            if ((r & 1) == 1) best = pick(best, tree[--r], strong);
+        }
+        return best;
+    }
+
+    private int pick(int a, int b, boolean strong) {
+        if (a < 0) return b;
+        return strong ? stronger(a, b) : weaker(a, b);
+    }
+
+    private int stronger(int a, int b) {
+        if (hp[a] != hp[b]) return hp[a] > hp[b] ? a : b;
+        return (int) entries[a] < (int) entries[b] ? a : b;
+    }
+
+    private int weaker(int a, int b) {
+        if (hp[a] != hp[b]) return hp[a] < hp[b] ? a : b;
+        return (int) entries[a] < (int) entries[b] ? a : b;
+    }
+
+    private boolean inRange(Tower tower, int pos) {
+        return tower.isInRange(enemies.get((int) entries[pos]));
+    }
+
+    /**
+     * c. kapsam aralığına düşen ilk dizi konumu.
+     */
+    private int sliceStart(int c, PathCoverage coverage) {
+        int step = coverage.getStep(c);
+        double from = coverage.getFrom(c);
+        int lo = lowerBound((long) step << 32), hi = lowerBound((long) (step + 1) << 32);
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (progress[mid] < from) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * c. kapsam aralığına düşen son dizi konumundan bir sonrası.
+     */
+    private int sliceEnd(int c, PathCoverage coverage) {
+        int step = coverage.getStep(c);
+        double to = coverage.getTo(c);
+        int lo = lowerBound((long) step << 32), hi = lowerBound((long) (step + 1) << 32);
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (progress[mid] <= to) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * key'e eşit ya da büyük ilk kaydın konumu (adımı olmayanlardan sonra aranır).
+     */
+    private int lowerBound(long key) {
+        int lo = looseCount, hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (entries[mid] < key) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
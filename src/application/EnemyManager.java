@@ -1,16 +1,18 @@
 package application;
 
 import character.SlimeEnemy;
-import javafx.scene.layout.Pane;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 /**
- * EnemyManager sınıfı, oyunda aktif olan tüm düşmanları yönetir.
+ * EnemyManager sınıfı, oyunda aktif olan tüm düşman modellerini yönetir.
  * - Ekleme, silme, temizleme işlemleri yapılır.
- * - Düşman listesi diğer sınıflar tarafından güncel olarak erişilebilir.
+ * - Liste simülasyon thread'ine aittir; sahne tarafı düşmanları yalnızca render snapshot'larından görür.
  */
 public class EnemyManager {
 
@@ -18,27 +20,65 @@ public class EnemyManager {
     private static final List<SlimeEnemy> enemies = new ArrayList<>();
 
     /**
-     * Yeni bir düşmanı oyun sahnesine ve listeye ekler.
+     * Yeni bir düşmanı listeye ekler. Görünümü ilk snapshot'ta render tarafında oluşturulur.
      *
      * @param enemy Eklenecek düşman
-     * @param root  Ekleneceği sahne (Pane)
      */
-    public static void addEnemy(SlimeEnemy enemy, Pane root) {
+    public static void addEnemy(SlimeEnemy enemy) {
         enemies.add(enemy);
-        root.getChildren().add(enemy.getGroup());
     }
 
     /**
-     * Belirli bir düşmanı sahneden ve listeden kaldırır.
+     * Belirli bir düşmanı listeden kaldırır ve havuza geri verir.
+     * Listede olmayan (zaten kaldırılmış) bir düşman için hiçbir şey yapmaz.
      *
      * @param slime Silinecek düşman
-     * @param pane  Sahne (null olabilir)
      */
-    public static void removeEnemy(SlimeEnemy slime, Pane pane) {
-        enemies.removeIf(e -> e == slime);  // Kimlik karşılaştırması (==)
+    public static void removeEnemy(SlimeEnemy slime) {
+        boolean removed = enemies.removeIf(e -> e == slime);  // Kimlik karşılaştırması (==)
+        if (!removed) return;
 
-        if (pane != null) {
-            pane.getChildren().remove(slime.getGroup());
+        EnemyPool.release(slime);
+    }
+
+    /**
+     * Birden fazla düşmanı listeden tek geçişte kaldırır ve havuza geri verir.
+     * Tick içindeki ölümler toplanıp bir kez çağrılır; ölüm başına listeyi taramak k ölümde O(k·n) olurdu.
+     *
+     * @param slimes Silinecek düşmanlar (kimlik karşılaştırmasıyla aranır)
+     */
+    public static void removeEnemies(List<SlimeEnemy> slimes) {
+        if (slimes.isEmpty()) return;
+
+        Set<SlimeEnemy> dead = Collections.newSetFromMap(new IdentityHashMap<>(slimes.size() * 2));
+        dead.addAll(slimes);
+        enemies.removeIf(e -> {
+            if (!dead.contains(e)) return false;
+            EnemyPool.release(e);
+            return true;
+        });
+    }
+
+    /**
+     * Tüm düşmanları yol üzerinde ilerletir. Yolun sonuna ulaşanların callback'leri,
+     * liste üzerindeki döngü bittikten sonra çalıştırılır (callback listeyi değiştirebilir).
+     *
+     * @param dt Geçen süre (saniye)
+     */
+    public static void moveEnemies(double dt) {
+        List<SlimeEnemy> arrived = null;
+
+        for (SlimeEnemy enemy : enemies) {
+            if (enemy.move(dt)) {
+                if (arrived == null) arrived = new ArrayList<>();
+                arrived.add(enemy);
+            }
+        }
+
+        if (arrived != null) {
+            for (SlimeEnemy enemy : arrived) {
+                enemy.reachEnd();
+            }
         }
     }
 
@@ -50,7 +90,8 @@ public class EnemyManager {
     }
 
     /**
-     * Sadece hayatta olan düşmanları döndürür.
+     * Sadece hayatta olan düşmanları döndürür. Dönen liste değiştirilemez bir kopyadır;
+     * kulelerin (paralel) hedef seçimi bu tick-içi snapshot üzerinden yapılır.
      */
     public static List<SlimeEnemy> getActiveEnemies() {
         return enemies.stream()
@@ -59,7 +100,7 @@ public class EnemyManager {
     }
 
     /**
-     * Ölü düşmanları listeden temizler (sahneden kaldırmaz).
+     * Ölü düşmanları listeden temizler (havuza vermez).
      */
     public static void updateEnemyList() {
         Iterator<SlimeEnemy> iterator = enemies.iterator();
@@ -72,13 +113,12 @@ public class EnemyManager {
     }
 
     /**
-     * Tüm düşmanları hem sahneden hem listeden tamamen temizler.
-     *
-     * @param pane Düşmanların eklendiği sahne
+     * Tüm düşmanları listeden temizler ve havuza verir.
+     * Simülasyon durduktan sonra çağrılmalıdır.
      */
-    public static void clearAll(Pane pane) {
+    public static void clearAll() {
         for (SlimeEnemy e : enemies) {
-            pane.getChildren().remove(e.getGroup());
+            EnemyPool.release(e);
         }
         enemies.clear();
     }
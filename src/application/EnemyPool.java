@@ -0,0 +1,85 @@
+package application;
+
+import character.EnemyType;
+import character.SlimeEnemy;
+import character.SlimeView;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+
+/**
+ * EnemyPool, SlimeEnemy modellerini ve SlimeView görünümlerini düşman tipi başına yeniden kullanır.
+ * Büyük dalgalarda her spawn'da yeni nesne oluşturulmaz.
+ * - acquire()/release(): modeller, yalnızca simülasyon thread'inden.
+ * - acquireView()/releaseView(): sahne düğümleri, yalnızca JavaFX thread'inden.
+ * İki havuz ayrı thread'lere ait olduğu için kilit gerekmez.
+ */
+public class EnemyPool {
+
+    private static final int MAX_POOLED_PER_TYPE = 512;
+
+    private static final EnumMap<EnemyType, ArrayDeque<SlimeEnemy>> free = new EnumMap<>(EnemyType.class);
+    private static final EnumMap<EnemyType, ArrayDeque<SlimeView>> freeViews = new EnumMap<>(EnemyType.class);
+
+    static {
+        for (EnemyType type : EnemyType.values()) {
+            free.put(type, new ArrayDeque<>());
+            freeViews.put(type, new ArrayDeque<>());
+        }
+    }
+
+    private EnemyPool() {
+    }
+
+    /**
+     * Verilen tipte, yeni doğmuş durumda bir düşman döndürür.
+     */
+    public static SlimeEnemy acquire(EnemyType type) {
+        SlimeEnemy slime = free.get(type).poll();
+        if (slime == null) {
+            return new SlimeEnemy(type);
+        }
+        slime.reset();
+        return slime;
+    }
+
+    /**
+     * Düşmanı havuza geri verir. Düşman artık düşman listesinde olmamalıdır.
+     */
+    public static void release(SlimeEnemy slime) {
+        slime.recycle();
+
+        ArrayDeque<SlimeEnemy> pool = free.get(slime.getType());
+        if (pool.size() < MAX_POOLED_PER_TYPE) {
+            pool.push(slime);
+        }
+    }
+
+    /**
+     * Verilen tipte, sıfırlanmış bir düşman görünümü döndürür.
+     */
+    public static SlimeView acquireView(EnemyType type) {
+        SlimeView view = freeViews.get(type).poll();
+        if (view == null) {
+            return new SlimeView(type);
+        }
+        view.reset();
+        return view;
+    }
+
+    /**
+     * Görünümü havuza geri verir. Görünüm artık çizilmemelidir (park edilmiş ya da sahneden çıkmış).
+     *
+     * @return Havuza alındıysa true; havuz doluysa false (görünüm sahneden tamamen çıkarılmalı)
+     */
+    public static boolean releaseView(SlimeView view) {
+        view.recycle();
+
+        ArrayDeque<SlimeView> pool = freeViews.get(view.getType());
+        if (pool.size() < MAX_POOLED_PER_TYPE) {
+            pool.push(view);
+            return true;
+        }
+        return false;
+    }
+}
@@ -1,46 +1,72 @@
 package application;
 
+import application.RenderLayers.Layer;
 import javafx.animation.FadeTransition;
 import javafx.animation.ScaleTransition;
-import javafx.scene.Node;
 import javafx.scene.effect.GaussianBlur;
-import javafx.scene.layout.Pane;
-import javafx.scene.media.AudioClip;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.util.Duration;
 
+import java.util.ArrayDeque;
 import java.util.Random;
 
 /**
  * Düşman öldüğünde patlama efekti oluşturur.
  * Bu efekt; ses, parçacık animasyonu, solma ve büyüme animasyonlarını içerir.
- * Efekt sadece bir Pane'e (sahne öğesi) uygulanabilir.
+ * Parçacıklar efekt katmanında çizilir; sönen parçacık katmandan çıkarılmaz, park edilip sonraki
+ * patlamada aynı yuvada yeniden kullanılır.
+ *
+ * Havuz tek bir RenderLayers'a aittir; seviye kapanınca GameLoop.stop() clearPool() ile parçacıkları
+ * katmandan çıkarıp havuzu boşaltır, böylece önceki seviyenin efekt katmanı havuz üzerinden tutulmaz.
  */
 public class ExplosionEffect {
 
+    private static final int MAX_POOLED_PARTICLES = 400;
+
+    private static final ArrayDeque<Circle> freeParticles = new ArrayDeque<>();
+    private static RenderLayers poolLayers;  // Havuzdaki parçacıkların bulunduğu katmanlar
+
     /**
-     * Belirtilen konumda bir patlama efekti oynatır.
+     * Belirtilen konumda bir patlama efekti oynatır (ses + parçacıklar).
      *
      * @param x      Efektin X koordinatı (sahneye göre)
      * @param y      Efektin Y koordinatı (sahneye göre)
-     * @param parent Efektin gösterileceği Node (Pane olmalı)
+     * @param layers Efektin gösterileceği overlay katmanları
      */
-    public static void play(double x, double y, Node parent) {
-        // Ses efektini oynat
-        AudioClip explosionSound = new AudioClip(
-            ExplosionEffect.class.getResource("/media/slime_hit.mp3").toExternalForm()
-        );
-        explosionSound.play();
+    public static void play(double x, double y, RenderLayers layers) {
+        playSound();
+        playParticles(x, y, layers);
+    }
 
-        // Eğer parent Pane değilse hiçbir şey yapma
-        if (!(parent instanceof Pane pane)) return;
+    /**
+     * Sadece patlama sesini çalar.
+     * Aynı tick içindeki birden fazla isabet için DamageSystem bunu bir kez çağırır.
+     */
+    public static void playSound() {
+        AssetCache.clip(AssetCache.HIT_SOUND).play();
+    }
 
+    /**
+     * Belirtilen konumda sadece parçacık animasyonunu oynatır.
+     * Parçacık sayısı ve bulanıklık QualityGovernor'ın geçerli kalitesine göre belirlenir.
+     *
+     * @param x      Efektin X koordinatı (sahneye göre)
+     * @param y      Efektin Y koordinatı (sahneye göre)
+     * @param layers Efektin gösterileceği overlay katmanları
+     */
+    public static void playParticles(double x, double y, RenderLayers layers) {
         Random rand = new Random();
+        QualityGovernor.Quality quality = QualityGovernor.get();
+        if (layers != poolLayers) {
+            clearPool();
+            poolLayers = layers;
+        }
 
-        // 20 parçacık oluştur
-        for (int i = 0; i < 20; i++) {
-            Circle particle = new Circle(3, Color.RED);
+        // Kaliteye göre parçacık oluştur (yüksek kalitede 20)
+        for (int i = 0; i < quality.particles; i++) {
+            Circle particle = freeParticles.poll();
+            if (particle == null) particle = new Circle(3, Color.RED);
 
             // Rastgele yön ve mesafe hesapla
             double angle = rand.nextDouble() * 2 * Math.PI;
@@ -51,14 +77,15 @@ public class ExplosionEffect {
             // Başlangıç konumu ayarla
             particle.setTranslateX(x);
             particle.setTranslateY(y);
-            particle.setEffect(new GaussianBlur(2));
-            pane.getChildren().add(particle);
+            particle.setEffect(quality.blur ? new GaussianBlur(2) : null);
+            layers.show(Layer.EFFECTS, particle);
 
             // Parçacığı şeffaflaştırma animasyonu
             FadeTransition fade = new FadeTransition(Duration.millis(500), particle);
             fade.setFromValue(1);
             fade.setToValue(0);
-            fade.setOnFinished(e -> pane.getChildren().remove(particle));
+            Circle finished = particle;
+            fade.setOnFinished(e -> release(layers, finished));
             fade.play();
 
             // Büyüme animasyonu
@@ -69,9 +96,36 @@ public class ExplosionEffect {
             scale.setToY(2);
             scale.play();
 
+            LeakDetector.trackTransient(particle);
+            LeakDetector.trackTransient(fade);
+            LeakDetector.trackTransient(scale);
+
             // Hedef konuma hareket ettir
             particle.setTranslateX(x + dx);
             particle.setTranslateY(y + dy);
         }
     }
+
+    /**
+     * Sönen parçacığı park edip havuza verir; havuz doluysa katmandan çıkarır.
+     */
+    private static void release(RenderLayers layers, Circle particle) {
+        // Seviye kapandıktan sonra sönen parçacık havuza dönmez
+        if (layers == poolLayers && freeParticles.size() < MAX_POOLED_PARTICLES) {
+            RenderLayers.park(particle);
+            freeParticles.push(particle);
+        } else {
+            layers.remove(particle);
+        }
+    }
+
+    /**
+     * Havuzdaki parçacıkları katmandan çıkarır ve havuzu boşaltır.
+     * Seviye kapanırken JavaFX thread'inde çağrılır.
+     */
+    public static void clearPool() {
+        if (poolLayers != null) poolLayers.removeAll(Layer.EFFECTS, freeParticles);
+        freeParticles.clear();
+        poolLayers = null;
+    }
 }
@@ -15,6 +15,8 @@ public class Game extends Application {
     @Override
     public void start(Stage primaryStage) {
         Game.mainStage = primaryStage;
+        CpuMonitor.start();     // Dakikalık işlemci süresi raporu
+        LeakDetector.start();   // "slimedefense.leakCheck" açıksa sızıntı raporu
 
         // Açılış ekranı → level 1'e geçiş lambda ile
         Scene openingScene = OpeningScreen.openScene(() -> Game.loadLevel(1));
@@ -24,52 +26,32 @@ public class Game extends Application {
     }
 
     public static void loadLevel(int levelNumber) {
+        LevelSettings settings = LevelSettings.of(levelNumber);
+        if (settings == null) {
+            System.err.println("Geçersiz seviye: " + levelNumber);
+            return;
+        }
+
         Game.currentLevel = levelNumber;
         TowerManager.clear(); // Her yeni seviyeye geçerken kuleleri temizle
 
-        // Level parametrelerini seç → LevelManager ile yükle
-        String path = "resources/level" + levelNumber + ".txt";
-        int money;
-        double kingX, kingY;
-
-        // Her seviyeye özel başlangıç ayarları
-        switch (levelNumber) {
-            case 1 -> {
-                money = 1000;
-                kingX = 300;
-                kingY = 25;
-            }
-            case 2 -> {
-                money = 150;
-                kingX = 300;
-                kingY = 130;
-            }
-            case 3 -> {
-                money = 200;
-                kingX = 300;
-                kingY = -30;
-            }
-            case 4 -> {
-                money = 250;
-                kingX = 430;
-                kingY = 50;
-            }
-            case 5 -> {
-                money = 300;
-                kingX = 430;
-                kingY = 260;
-            }
-            default -> {
-                System.err.println("Geçersiz seviye: " + levelNumber);
-                return;
+        // Seviye önceden hazırlandıysa sadece sahne takılır; yoksa burada yüklenir.
+        // Bozuk seviye dosyası sahneyi değiştirmez.
+        Level level;
+        try {
+            level = LevelPreloader.take(levelNumber);
+            if (level == null) {
+                level = new LevelManager(settings.path, settings.money, settings.kingX, settings.kingY);
             }
+        } catch (LevelFormatException e) {
+            System.err.println("Seviye yüklenemedi:" + System.lineSeparator() + e.getMessage());
+            return;
         }
 
-        // LevelManager ile yükle
-        Level level = new LevelManager(path, money, kingX, kingY);
         Scene scene = level.getScene(mainStage);
         Game.setCurrentGameState(level.getGameState());
         mainStage.setScene(scene);
+        level.start(mainStage);
     }
 
     // Global game state erişimi
@@ -0,0 +1,149 @@
+package application;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * GameLoop sınıfı, JavaFX tarafındaki frame döngüsüdür. Oyun mantığı burada değil,
+ * Simulation thread'inde sabit adımla çalışır; bu döngü her pulse'ta yalnızca:
+ * 1) Simülasyondan gelen olayları (ses, efekt, ölüm animasyonu) çalıştırır.
+ * 2) Yayınlanmış en yeni snapshot'ı sahneye çizer (WorldRenderer).
+ * 3) Kamera görüş alanı dışındaki görselleri gizler.
+ * Böylece yavaş bir tick arayüzü takılmaz; sahne sadece bir önceki snapshot'ı gösterir.
+ *
+ * Çizilecek hareketli bir şey kalmadığında (dalga araları) döngü uykuya geçer ve JavaFX pulse üretmeyi
+ * bırakır. Simülasyondan yeni olay/hareket geldiğinde (requestWake) veya oyuncu girdisinde (wake) uyanır.
+ */
+public class GameLoop {
+
+    private static final double MAX_DT = 0.1;  // Uzun duraklamalardan sonra lazer animasyonu sıçramasın
+    private static final int IDLE_PULSES = 30; // Bu kadar boş pulse'tan sonra uykuya geç (~0.5 sn)
+
+    private static Camera camera;   // Aktif seviyenin kamerası (görüş alanı kırpma için)
+    private static long lastNow = -1;
+    private static boolean running;
+    private static int idlePulses;
+    private static volatile boolean sleeping;
+    private static volatile long pulseCount;                          // CpuMonitor raporu için
+    private static final AtomicBoolean wakeScheduled = new AtomicBoolean();
+
+    private static final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            double dt = lastNow < 0 ? 0 : (now - lastNow) / 1_000_000_000.0;
+            lastNow = now;
+
+            long start = System.nanoTime();
+            pulse(Math.min(dt, MAX_DT));
+            QualityGovernor.record(dt, (System.nanoTime() - start) / 1_000_000_000.0);
+        }
+    };
+
+    /**
+     * Tek bir render pulse'ını çalıştırır.
+     *
+     * @param dt Bir önceki pulse'tan bu yana geçen süre (saniye)
+     */
+    private static void pulse(double dt) {
+        pulseCount++;
+        Simulation.drainEvents();
+        if (!running) return;   // Olaylardan biri döngüyü durdurmuş olabilir
+
+        RenderLayers layers = TowerManager.getLayers();
+        if (layers == null) return;
+
+        WorldRenderer.render(Simulation.readSnapshot(), layers, dt);
+
+        if (camera != null) {
+            camera.cull(layers);
+            WorldRenderer.updateOnScreen(camera);
+        }
+
+        if (!WorldRenderer.isIdle()) {
+            idlePulses = 0;
+        } else if (++idlePulses >= IDLE_PULSES) {
+            sleep();
+        }
+    }
+
+    /**
+     * Render döngüsünü uykuya alır. Bu arada olay geldiyse hemen geri uyanır.
+     */
+    private static void sleep() {
+        timer.stop();
+        sleeping = true;
+        if (Simulation.hasPendingEvents()) wake();
+    }
+
+    /**
+     * Uyuyan render döngüsünü hemen başlatır (oyuncu girdisi gibi JavaFX thread'indeki olaylardan).
+     */
+    public static void wake() {
+        wakeScheduled.set(false);
+        if (!running || !sleeping) return;
+
+        sleeping = false;
+        idlePulses = 0;
+        lastNow = -1;
+        timer.start();
+    }
+
+    /**
+     * Render döngüsü uyuyorsa bir sonraki pulse'ta uyanmasını ister. Herhangi bir thread'den çağrılabilir;
+     * döngü uyanıkken neredeyse hiç maliyeti yoktur.
+     */
+    static void requestWake() {
+        if (sleeping && wakeScheduled.compareAndSet(false, true)) {
+            Platform.runLater(GameLoop::wake);
+        }
+    }
+
+    /**
+     * Şimdiye kadar çalışan render pulse'ı sayısı.
+     */
+    static long getPulseCount() {
+        return pulseCount;
+    }
+
+    /**
+     * Görüş alanı kırpması yapılacak kamerayı ayarlar (null → kırpma yok).
+     */
+    public static void setCamera(Camera activeCamera) {
+        camera = activeCamera;
+    }
+
+    /**
+     * Simülasyonu ve render döngüsünü başlatır.
+     *
+     * @param waveManager Bu seviyenin dalga yöneticisi (simülasyon saatiyle ilerler)
+     */
+    public static void start(WaveManager waveManager) {
+        lastNow = -1;
+        idlePulses = 0;
+        sleeping = false;
+        running = true;
+        Simulation.start(waveManager);
+        timer.start();
+    }
+
+    /**
+     * Simülasyonu ve render döngüsünü durdurur; düşman, mermi ve bekleyen isabetler temizlenir.
+     * İzlenen nesneler LeakDetector için sahipsiz sayılır (seviye kapanışı).
+     * Birden fazla kez çağrılabilir.
+     */
+    public static void stop() {
+        timer.stop();
+        running = false;
+        sleeping = false;
+        Simulation.stop();
+
+        DamageSystem.clear();
+        ProjectileSystem.clear();
+        EnemyManager.clearAll();
+        WorldRenderer.clear();
+        ExplosionEffect.clearPool();
+        LeakDetector.levelTornDown();
+    }
+}
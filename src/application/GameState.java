@@ -1,19 +1,32 @@
 package application;
 
 import character.King;
-import towers.Tower;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * GameState sınıfı, oyunun mevcut durumunu (para, can, dalga bilgisi, oyun sonu vs.)
  * takip eder ve oyun akışında merkezi bir kontrol noktası sağlar.
+ *
+ * Durum yalnızca simülasyon thread'inden değiştirilir (oyuncu harcamaları da Simulation.submit ile gelir);
+ * arayüzün okuduğu alanlar volatile'dır.
  */
 public class GameState {
 
-    private int money;                   // Oyuncunun parası
-    private int lives;                   // Oyuncunun canı
+    private volatile int money;          // Oyuncunun parası
+    private volatile int lives;          // Oyuncunun canı
     private int currentWaveIndex;       // Şu anki dalga numarası
-    private boolean gameOver;           // Oyun bitti mi?
-    private boolean gameWon;            // Oyuncu kazandı mı?
+    private volatile boolean gameOver;  // Oyun bitti mi?
+    private volatile boolean gameWon;   // Oyuncu kazandı mı?
+
+    private int liveEnemyCount;         // Sahnede hâlâ yaşayan düşman sayısı
+    private boolean allWavesSpawned;    // Son dalga da tamamen spawn edildi mi?
+
+    // Oyun sonu dinleyicileri (polling yerine olay tabanlı bildirim)
+    private final List<Runnable> gameOverListeners = new ArrayList<>();
+    private final List<Runnable> gameWonListeners = new ArrayList<>();
 
     private UIManager uiManager;        // UI ile iletişim için referans
     private King king;                  // Kral (can sembolü)
@@ -52,11 +65,21 @@ public class GameState {
         return false;
     }
 
-    public void addMoneyForKill(int amount) {
-        addMoney(amount);
+    /**
+     * Bir tick içinde ölen düşmanları toplu olarak işler:
+     * ödül eklenir, canlı düşman sayacı düşer ve arayüz tek sefer güncellenir.
+     *
+     * @param killCount   Ölen düşman sayısı
+     * @param totalReward Toplam ödül
+     */
+    public void onEnemiesKilled(int killCount, int totalReward) {
+        addMoney(totalReward);
+        liveEnemyCount = Math.max(0, liveEnemyCount - killCount);
+
         if (uiManager != null) {
             uiManager.updateUI();  // Arayüzde para güncelle
         }
+        checkWinCondition();
     }
 
     // --------------------------
@@ -77,17 +100,12 @@ public class GameState {
 
             if (waveManager != null) waveManager.stopAllWaves();
 
-            // Tüm düşmanları sahneden sil
-            EnemyManager.clearAll(TowerManager.getOverlayPane());
-
-            // Tüm kuleleri sahneden sil
-            for (Tower tower : TowerManager.getTowers()) {
-                TowerManager.getOverlayPane().getChildren().remove(tower.getTowerShape());
-            }
-            TowerManager.clear();
-
             // Kralı öldür (animasyonsuz kalıcı)
-            if (king != null) king.dieForever();
+            King dyingKing = king;
+            if (dyingKing != null) Simulation.post(dyingKing::dieForever);
+
+            // Düşman ve kule temizliği dinleyicide, simülasyon durdurulduktan sonra yapılır
+            fireListeners(gameOverListeners);
         }
 
         if (uiManager != null) {
@@ -95,6 +113,44 @@ public class GameState {
         }
     }
 
+    // --------------------------
+    // Düşman sayacı
+    // --------------------------
+
+    /**
+     * Yeni bir düşman sahneye eklendiğinde çağrılır.
+     */
+    public void enemySpawned() {
+        liveEnemyCount++;
+    }
+
+    /**
+     * Bir düşman öldüğünde veya krala ulaşıp sahneden çıktığında çağrılır.
+     * Son dalga spawn edilmişse ve alan boşaldıysa oyun kazanılır.
+     */
+    public void enemyRemoved() {
+        if (liveEnemyCount > 0) liveEnemyCount--;
+        checkWinCondition();
+    }
+
+    public int getLiveEnemyCount() {
+        return liveEnemyCount;
+    }
+
+    /**
+     * WaveManager son dalganın tüm düşmanlarını çıkardığında çağırır.
+     */
+    public void markAllWavesSpawned() {
+        allWavesSpawned = true;
+        checkWinCondition();
+    }
+
+    private void checkWinCondition() {
+        if (allWavesSpawned && liveEnemyCount == 0 && !gameOver) {
+            setGameWon(true);
+        }
+    }
+
     // --------------------------
     // Dalga (wave) işlemleri
     // --------------------------
@@ -140,7 +196,35 @@ public class GameState {
     }
 
     public void setGameWon(boolean gameWon) {
+        boolean wasWon = this.gameWon;
         this.gameWon = gameWon;
+        if (gameWon && !wasWon) {
+            fireListeners(gameWonListeners);
+        }
+    }
+
+    /**
+     * Canlar tükendiğinde bir kez çağrılacak dinleyiciyi ekler.
+     */
+    public void addGameOverListener(Runnable listener) {
+        gameOverListeners.add(listener);
+    }
+
+    /**
+     * Son dalga bitip alan boşaldığında bir kez çağrılacak dinleyiciyi ekler.
+     */
+    public void addGameWonListener(Runnable listener) {
+        gameWonListeners.add(listener);
+    }
+
+    /**
+     * Dinleyiciler bir sonraki pulse'ta çalıştırılır; böylece kule/düşman listeleri
+     * üzerinde dönen bir döngünün ortasında sahne temizliği yapılmaz.
+     */
+    private void fireListeners(List<Runnable> listeners) {
+        for (Runnable listener : List.copyOf(listeners)) {
+            Platform.runLater(listener);
+        }
     }
 
     /**
@@ -152,6 +236,8 @@ public class GameState {
         this.currentWaveIndex = 0;
         this.gameOver = false;
         this.gameWon = false;
+        this.liveEnemyCount = 0;
+        this.allWavesSpawned = false;
         TowerManager.clear(); // Tüm kuleleri kaldır
     }
 }
@@ -0,0 +1,198 @@
+package application;
+
+import javafx.animation.Animation;
+import javafx.application.Platform;
+import javafx.scene.Node;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LeakDetector, overlay katmanlarına eklenen düğümleri ve oyun kodunun oynattığı Timeline/Transition'ları
+ * izleyen bir hata ayıklama servisidir. Her nesne için oluşturulduğu yer (çağıran sınıf, metot, satır)
+ * ve sahibi kaydedilir. Sahibi öldükten ya da seviye kapandıktan GRACE saniye sonra hâlâ canlı olan
+ * nesneler, oluşturulma yerine göre gruplanıp sayılarıyla konsola yazılır.
+ *
+ * "Canlı" sayılma ölçütü:
+ * - Düğüm: hâlâ bir ebeveyne bağlı ve park edilmemiş (RenderLayers havuzundaki boş yuvalar sayılmaz)
+ * - Animasyon: durdurulmamış (oynuyor ya da duraklatılmış)
+ * Çöp toplayıcının topladığı nesneler zayıf referansla tutulduğu için kendiliğinden düşer.
+ *
+ * "slimedefense.leakCheck=true" (5 sn) ya da "slimedefense.leakCheck=<saniye>" ile açılır; kapalıyken
+ * tüm çağrılar hiçbir şey yapmaz. Yalnızca JavaFX thread'inde kullanılır.
+ */
+public final class LeakDetector {
+
+    private static final double DEFAULT_GRACE = 5;
+
+    private static final double GRACE = configuredGrace();         // Saniye; 0 → kapalı
+    private static final boolean ENABLED = GRACE > 0;
+
+    /**
+     * İzlenen bir nesnenin kaydı. Nesnenin kendisi WeakHashMap anahtarıdır; burada tutulmaz.
+     */
+    private static class Record {
+        final String site;                  // Oluşturulduğu / sahneye eklendiği yer
+        final String ownerKind;             // Sahibinin türü (rapor için)
+        final WeakReference<Object> owner;  // ownerDied() eşleşmesi için
+        long orphanedAt = -1;               // Sahibinin öldüğü an (nanosaniye), -1 → sahibi yaşıyor
+        boolean reported;
+
+        Record(String site, Object owner) {
+            this.site = site;
+            this.ownerKind = owner == null ? "-" : owner.getClass().getSimpleName();
+            this.owner = owner == null ? null : new WeakReference<>(owner);
+        }
+    }
+
+    private static final WeakHashMap<Object, Record> tracked = new WeakHashMap<>();
+    private static final StackWalker walker = StackWalker.getInstance();
+
+    private static ScheduledExecutorService scheduler;
+
+    private LeakDetector() {
+    }
+
+    /**
+     * Periyodik kontrolü başlatır (bir kez). Oyun açılışında çağrılır.
+     */
+    static synchronized void start() {
+        if (!ENABLED || scheduler != null) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "leak-detector");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long period = Math.max(1, Math.round(GRACE * 1000));
+        scheduler.scheduleAtFixedRate(() -> Platform.runLater(LeakDetector::check), period, period, TimeUnit.MILLISECONDS);
+        System.out.println("[Sızıntı] izleme açık, bekleme süresi " + GRACE + " sn");
+    }
+
+    /**
+     * Nesneyi izlemeye alır. Havuzdan yeniden kullanılan nesne için tekrar çağrılabilir; kayıt yenilenir.
+     *
+     * @param object İzlenecek düğüm ya da animasyon
+     * @param owner  Nesnenin sahibi (ör. kule, düşman görünümü); null → yalnızca seviye kapanışında denetlenir
+     */
+    public static void track(Object object, Object owner) {
+        if (!ENABLED || object == null) return;
+        tracked.put(object, new Record(callSite(), owner));
+    }
+
+    /**
+     * Kısa ömürlü bir nesneyi (parçacık, ölüm görseli, tek seferlik animasyon) izlemeye alır:
+     * GRACE süresi içinde bitmiş ya da sahneden çıkmış olmalıdır.
+     */
+    public static void trackTransient(Object object) {
+        if (!ENABLED || object == null) return;
+
+        Record record = new Record(callSite(), null);
+        record.orphanedAt = System.nanoTime();
+        tracked.put(object, record);
+    }
+
+    /**
+     * Sahibin öldüğünü bildirir; sahip olduğu nesneler GRACE süresi sonunda denetlenir.
+     */
+    public static void ownerDied(Object owner) {
+        if (!ENABLED || owner == null) return;
+
+        long now = System.nanoTime();
+        for (Record record : tracked.values()) {
+            if (record.orphanedAt < 0 && record.owner != null && record.owner.get() == owner) {
+                record.orphanedAt = now;
+            }
+        }
+    }
+
+    /**
+     * Seviye kapandı: izlenen tüm nesneler sahipsiz sayılır.
+     */
+    static void levelTornDown() {
+        if (!ENABLED) return;
+
+        long now = System.nanoTime();
+        for (Record record : tracked.values()) {
+            if (record.orphanedAt < 0) record.orphanedAt = now;
+        }
+    }
+
+    /**
+     * Bekleme süresi dolmuş sahipsiz nesnelerden hâlâ canlı olanları raporlar.
+     */
+    private static void check() {
+        long deadline = System.nanoTime() - Math.round(GRACE * 1_000_000_000L);
+
+        TreeMap<String, Integer> leaks = new TreeMap<>();
+        TreeMap<String, Integer> census = new TreeMap<>();
+        List<Record> newlyReported = new ArrayList<>();
+
+        // WeakHashMap'in kopyası üzerinde dolaşılır; canlılık kontrolü sırasında harita değişmesin
+        for (java.util.Map.Entry<Object, Record> entry : new ArrayList<>(tracked.entrySet())) {
+            Object object = entry.getKey();
+            Record record = entry.getValue();
+            if (object == null || !isAlive(object)) continue;
+
+            String kind = object.getClass().getSimpleName();
+            census.merge(kind, 1, Integer::sum);
+
+            if (record.reported || record.orphanedAt < 0 || record.orphanedAt > deadline) continue;
+            leaks.merge(kind + " @ " + record.site + " (sahip: " + record.ownerKind + ")", 1, Integer::sum);
+            newlyReported.add(record);
+        }
+
+        if (leaks.isEmpty()) return;
+        newlyReported.forEach(record -> record.reported = true);
+
+        System.out.printf("[Sızıntı] sahibi öldükten %.1f sn sonra hâlâ canlı %d nesne:%n", GRACE, newlyReported.size());
+        leaks.forEach((key, count) -> System.out.printf("  %5d × %s%n", count, key));
+        System.out.println("[Sızıntı] izlenen canlı nesneler: " + census);
+    }
+
+    private static boolean isAlive(Object object) {
+        if (object instanceof Node node) {
+            return node.getParent() != null && !RenderLayers.isParked(node);
+        }
+        if (object instanceof Animation animation) {
+            return animation.getStatus() != Animation.Status.STOPPED;
+        }
+        return true;
+    }
+
+    /**
+     * LeakDetector ve RenderLayers dışındaki ilk çağıran: "Sınıf.metot:satır".
+     */
+    private static String callSite() {
+        return walker.walk(frames -> frames
+                .filter(frame -> !frame.getClassName().equals(LeakDetector.class.getName())
+                        && !frame.getClassName().equals(RenderLayers.class.getName()))
+                .findFirst()
+                .map(frame -> {
+                    String className = frame.getClassName();
+                    return className.substring(className.lastIndexOf('.') + 1)
+                            + "." + frame.getMethodName() + ":" + frame.getLineNumber();
+                })
+                .orElse("?"));
+    }
+
+    private static double configuredGrace() {
+        String configured = System.getProperty("slimedefense.leakCheck");
+        if (configured == null || configured.isBlank() || configured.equalsIgnoreCase("false")) return 0;
+        if (configured.equalsIgnoreCase("true")) return DEFAULT_GRACE;
+
+        try {
+            return Math.max(0, Double.parseDouble(configured.trim()));
+        } catch (NumberFormatException e) {
+            System.err.println("Geçersiz sızıntı kontrol süresi: " + configured);
+            return 0;
+        }
+    }
+}
@@ -23,6 +23,13 @@ public abstract class Level {
      */
     public abstract Scene getScene(Stage stage);
 
+    /**
+     * Sahne gösterildikten sonra oyunu başlatır (oyun döngüsü, dalgalar, bitiş olayları).
+     *
+     * @param stage JavaFX Stage (pencere)
+     */
+    public abstract void start(Stage stage);
+
     /**
      * Seviyenin sahip olduğu oyun durumu nesnesini döner.
      * 
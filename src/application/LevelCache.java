@@ -0,0 +1,89 @@
+package application;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * LevelCache, seviye metinlerini derlenmiş ikili dosyalar olarak önbellekler.
+ * Metin kaynağının SHA-256 özeti derlenmiş dosyanın başlığındaki özetle aynıysa dosya
+ * doğrudan bellek eşlemeli okunur; kaynak değiştiyse seviye yeniden ayrıştırılıp derlenir.
+ *
+ * Önbellek klasörü "slimedefense.levelCache" sistem özelliğiyle değiştirilebilir
+ * (varsayılan: CacheFiles kök klasörü altında level-cache). Önbellek yazılamazsa seviye yine de yüklenir.
+ */
+public class LevelCache {
+
+    private static final String EXTENSION = ".lvc";
+
+    private LevelCache() {
+    }
+
+    /**
+     * Seviyeyi önbellekten veya (gerekirse derleyerek) kaynaktan yükler.
+     *
+     * @param location "/level1.txt" gibi bir classpath yolu veya bir dosya yolu
+     * @throws LevelFormatException Kaynak bulunamazsa veya geçersizse
+     */
+    public static LevelData load(String location) {
+        byte[] source = LevelLoader.readSource(location);
+        byte[] hash = CacheFiles.sha256(source);
+        Path cacheFile = cacheDirectory().resolve(cacheName(location));
+
+        // 1) Güncel derlenmiş dosya varsa metin ayrıştırılmaz
+        if (Files.isRegularFile(cacheFile)) {
+            try {
+                CompiledLevel compiled = CompiledLevel.map(cacheFile);
+                if (Arrays.equals(compiled.getSourceHash(), hash)) {
+                    return compiled.toLevelData(location);
+                }
+            } catch (IOException e) {
+                // Bozuk veya eski sürüm → yeniden derlenir
+            }
+        }
+
+        // 2) Kaynak değişmiş → ayrıştır, derle, önbelleğe yaz
+        LevelData parsed = LevelLoader.parse(source, location);
+        ByteBuffer binary = LevelCompiler.compile(parsed, hash);
+        write(cacheFile, binary.duplicate());
+
+        try {
+            return CompiledLevel.read(binary).toLevelData(location);
+        } catch (IOException e) {
+            throw new IllegalStateException("Derleyici geçersiz çıktı üretti: " + location, e);
+        }
+    }
+
+    private static void write(Path cacheFile, ByteBuffer binary) {
+        try {
+            CacheFiles.writeAtomically(cacheFile, binary);
+        } catch (IOException e) {
+            System.err.println("Seviye önbelleği yazılamadı (" + cacheFile + "): " + e.getMessage());
+        }
+    }
+
+    private static Path cacheDirectory() {
+        String configured = System.getProperty("slimedefense.levelCache");
+        if (configured != null && !configured.isBlank()) return Path.of(configured);
+        return CacheFiles.directory("level-cache");
+    }
+
+    /**
+     * "/level1.txt" → "level1_txt.lvc"; farklı klasörlerdeki aynı adlı dosyalar çakışmaz.
+     */
+    private static String cacheName(String location) {
+        StringBuilder name = new StringBuilder(location.length() + EXTENSION.length());
+        for (int i = 0; i < location.length(); i++) {
+            char c = location.charAt(i);
+            boolean safe = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-';
+            if (safe) {
+                name.append(c);
+            } else if (name.length() > 0) {
+                name.append('_');
+            }
+        }
+        return name.append(EXTENSION).toString();
+    }
+}
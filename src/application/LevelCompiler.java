@@ -0,0 +1,64 @@
+package application;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * LevelCompiler, doğrulanmış bir seviyeyi küçük bir ikili (binary) dosya düzenine çevirir.
+ * Böylece oyun sırasında metin ayrıştırma yapılmaz; CompiledLevel dosyayı bellek eşlemeli okur.
+ *
+ * Düzen (big-endian):
+ * - Başlık: MAGIC, VERSION, kaynak SHA-256 özeti (32 bayt), genişlik, yükseklik,
+ *   yol / spawn / çıkış / dalga sayıları
+ * - int[] yol, int[] spawn, int[] çıkış (row * width + col)
+ * - Dalga başına: slow, normal, fast (int) + delayBetween, startDelay (double)
+ *
+ * Spawn sırası dosyaya yazılmaz; WaveManager her dalga başında tipleri yeniden karıştırır.
+ */
+public class LevelCompiler {
+
+    public static final int MAGIC = 0x534C5643;     // "SLVC"
+    public static final int VERSION = 2;
+    public static final int HASH_LENGTH = 32;       // SHA-256
+    static final int HEADER_SIZE = 4 + 4 + HASH_LENGTH + 6 * 4;
+    static final int WAVE_RECORD_SIZE = 3 * 4 + 2 * 8;
+
+    private LevelCompiler() {
+    }
+
+    /**
+     * Seviyeyi derler.
+     *
+     * @param level      Doğrulanmış seviye verisi
+     * @param sourceHash Metin kaynağının SHA-256 özeti
+     * @return Okumaya hazır (flip edilmiş) tampon
+     */
+    public static ByteBuffer compile(LevelData level, byte[] sourceHash) {
+        int[] path = level.getPath();
+        int[] spawns = level.getSpawns();
+        int[] exits = level.getExits();
+        List<Wave> waves = level.getWaves();
+
+        int size = HEADER_SIZE
+                + 4 * (path.length + spawns.length + exits.length)
+                + WAVE_RECORD_SIZE * waves.size();
+        ByteBuffer out = ByteBuffer.allocate(size);
+
+        // Başlık
+        out.putInt(MAGIC).putInt(VERSION).put(sourceHash, 0, HASH_LENGTH);
+        out.putInt(level.getWidth()).putInt(level.getHeight());
+        out.putInt(path.length).putInt(spawns.length).putInt(exits.length).putInt(waves.size());
+
+        // Hücreler
+        out.asIntBuffer().put(path).put(spawns).put(exits);
+        out.position(out.position() + 4 * (path.length + spawns.length + exits.length));
+
+        // Dalgalar
+        for (Wave wave : waves) {
+            out.putInt(wave.getSlowCount()).putInt(wave.getNormalCount()).putInt(wave.getFastCount());
+            out.putDouble(wave.getDelayBetweenEnemies()).putDouble(wave.getStartDelay());
+        }
+
+        return out.flip();
+    }
+}
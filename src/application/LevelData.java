@@ -0,0 +1,68 @@
+package application;
+
+import java.util.List;
+
+/**
+ * LevelData, doğrulanmış bir seviye dosyasının değiştirilemez içeriğini tutar.
+ * Hücreler row * width + col olarak paketlenmiştir.
+ */
+public final class LevelData {
+
+    private final String source;
+    private final int width;
+    private final int height;
+    private final int[] path;       // Dosyadaki sırayla yol hücreleri
+    private final int[] spawns;     // Boşsa yol sıralı tek şerit olarak yorumlanır
+    private final int[] exits;
+    private final List<Wave> waves;
+
+    public LevelData(String source, int width, int height, int[] path, int[] spawns, int[] exits, List<Wave> waves) {
+        this.source = source;
+        this.width = width;
+        this.height = height;
+        this.path = path;
+        this.spawns = spawns;
+        this.exits = exits;
+        this.waves = List.copyOf(waves);
+    }
+
+    /**
+     * Verinin okunduğu kaynak (hata mesajları için).
+     */
+    public String getSource() {
+        return source;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Yol hücreleri. Dizi değiştirilmemelidir.
+     */
+    public int[] getPath() {
+        return path;
+    }
+
+    /**
+     * Spawn hücreleri. Dizi değiştirilmemelidir.
+     */
+    public int[] getSpawns() {
+        return spawns;
+    }
+
+    /**
+     * Çıkış hücreleri. Dizi değiştirilmemelidir.
+     */
+    public int[] getExits() {
+        return exits;
+    }
+
+    public List<Wave> getWaves() {
+        return waves;
+    }
+}
@@ -0,0 +1,70 @@
+package application;
+
+import java.util.List;
+
+/**
+ * LevelFormatException, bir seviye dosyası okunamadığında veya geçersiz olduğunda fırlatılır.
+ * Her tanı "kaynak:satır:sütun: mesaj" biçimindedir; satır ve sütun 1'den başlar.
+ * İlk hatanın konumu ayrıca getLine() / getColumn() ile alınabilir.
+ */
+public class LevelFormatException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String source;
+    private final int line;
+    private final int column;
+    @SuppressWarnings("serial")     // List.copyOf() ile tutulur; değişmez liste serileştirilebilir
+    private final List<String> diagnostics;
+
+    /**
+     * Tek bir hata için istisna oluşturur.
+     *
+     * @param source  Seviye dosyasının adı
+     * @param line    Satır numarası (bilinmiyorsa 0)
+     * @param column  Sütun numarası (bilinmiyorsa 0)
+     * @param message Hata açıklaması
+     * @param cause   Asıl neden (yoksa null)
+     */
+    public LevelFormatException(String source, int line, int column, String message, Throwable cause) {
+        this(source, line, column, List.of(format(source, line, column, message)), cause);
+    }
+
+    /**
+     * Dosyada bulunan tüm hatalar için tek bir istisna oluşturur.
+     */
+    LevelFormatException(String source, int line, int column, List<String> diagnostics, Throwable cause) {
+        super(String.join(System.lineSeparator(), diagnostics), cause);
+        this.source = source;
+        this.line = line;
+        this.column = column;
+        this.diagnostics = List.copyOf(diagnostics);
+    }
+
+    /**
+     * Bir tanıyı "kaynak:satır:sütun: mesaj" biçiminde yazar.
+     */
+    static String format(String source, int line, int column, String message) {
+        if (line <= 0) return source + ": " + message;
+        return source + ":" + line + ":" + column + ": " + message;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    /**
+     * Dosyada bulunan tüm hatalar (en fazla LevelLoader.MAX_DIAGNOSTICS adet).
+     */
+    public List<String> getDiagnostics() {
+        return diagnostics;
+    }
+}
@@ -1,16 +1,27 @@
 package application;
 
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 /**
- * LevelLoader sınıfı, bir seviye (level) dosyasını okuyarak:
- * - Harita genişlik/yüksekliğini
- * - Yol hücrelerini
- * - Dalgaları (Wave)
- * yükler ve ilgili verilere erişim sağlar.
+ * LevelLoader sınıfı, bir seviye (level) dosyasını tek geçişte okuyup doğrular ve LevelData üretir:
+ * - Harita genişlik/yüksekliği
+ * - Yol hücreleri (ve varsa spawn/çıkış hücreleri)
+ * - Dalgalar (Wave)
+ *
+ * Dosya önce classpath'te ("/level1.txt"), bulunamazsa dosya sisteminde aranır.
+ * Satırlar split() ile bölünmez; her satır yerinde taranır. Hatalar satır ve sütun
+ * bilgisiyle toplanır ve tek bir LevelFormatException olarak fırlatılır.
  *
  * Dosya formatı örneği:
  * WIDTH: 10
@@ -18,100 +29,467 @@ import java.util.List;
  * 2,1
  * 2,2
  * ...
- * WAVE_DATA
+ * WAVE_DATA:
  * 3 2 1 1.5 2.0
  * 4 3 2 1.2 3.0
+ *
+ * Çatallı/çok şeritli haritalar için SPAWN ve EXIT satırları eklenebilir.
+ * Bu durumda yol hücreleri sırasız bir ağ olarak yorumlanır:
+ * SPAWN: 0,2
+ * SPAWN: 4,0
+ * EXIT: 5,9
+ * 0,2
+ * ...
+ *
+ * Boş satırlar ve '#' ile başlayan satırlar yok sayılır.
  */
 public class LevelLoader {
 
-    private int width;
-    private int height;
+    public static final int MAX_DIMENSION = 1000;   // Genişlik/yükseklik üst sınırı
+    static final int MAX_DIAGNOSTICS = 50;          // Bir dosya için raporlanacak en fazla hata
+
+    private LevelLoader() {
+    }
+
+    /**
+     * Seviye dosyasını classpath'ten veya dosya sisteminden yükler.
+     *
+     * @param location "/level1.txt" gibi bir classpath yolu veya bir dosya yolu
+     * @return Doğrulanmış seviye verisi
+     * @throws LevelFormatException Dosya bulunamazsa, okunamazsa veya geçersizse
+     */
+    public static LevelData load(String location) {
+        return parse(readSource(location), location);
+    }
+
+    /**
+     * Seviye dosyasının ham içeriğini okur: önce classpath, sonra dosya sistemi (NIO).
+     *
+     * @throws LevelFormatException Dosya bulunamazsa veya okunamazsa
+     */
+    public static byte[] readSource(String location) {
+        try {
+            try (InputStream in = LevelLoader.class.getResourceAsStream(location)) {
+                if (in != null) return in.readAllBytes();
+            }
+
+            Path file = Path.of(location);
+            if (!Files.isRegularFile(file)) {
+                throw new LevelFormatException(location, 0, 0, "Seviye dosyası bulunamadı", null);
+            }
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new LevelFormatException(location, 0, 0, "Seviye dosyası okunamadı: " + e.getMessage(), e);
+        }
+    }
 
-    private final List<String> pathCells = new ArrayList<>();
-    private final List<Wave> waves = new ArrayList<>();
+    /**
+     * Ham seviye içeriğini (UTF-8) ayrıştırır ve doğrular.
+     *
+     * @param source Hata mesajlarında kullanılacak kaynak adı
+     */
+    public static LevelData parse(byte[] content, String source) {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8))) {
+            return parse(reader, source);
+        } catch (IOException e) {
+            throw new LevelFormatException(source, 0, 0, "Seviye dosyası okunamadı: " + e.getMessage(), e);
+        }
+    }
 
     /**
-     * Belirtilen dosya yolundan seviye verilerini yükler.
+     * Seviye verisini verilen okuyucudan ayrıştırır ve doğrular.
      *
-     * @param filePath Seviye dosyasının yolu
+     * @param reader Satır satır okunacak kaynak
+     * @param source Hata mesajlarında kullanılacak kaynak adı
      */
-    public LevelLoader(String filePath) {
-        loadLevelData(filePath);
+    public static LevelData parse(BufferedReader reader, String source) throws IOException {
+        Parser parser = new Parser(source);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            parser.acceptLine(line);
+        }
+        return parser.finish();
     }
 
     /**
-     * Dosyayı okuyarak genişlik, yükseklik, path ve dalga verilerini ayrıştırır.
+     * Tek geçişli ayrıştırıcı. Satır içindeki konum bir imleçle takip edilir.
      */
-    private void loadLevelData(String filePath) {
-        try (BufferedReader br = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isWaveSection = false;
+    private static final class Parser {
+
+        private final String source;
+        private final List<String> diagnostics = new ArrayList<>();
+        private int firstErrorLine, firstErrorColumn;
+
+        // Satır imleci
+        private String line;
+        private int lineNo;
+        private int pos;
 
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                if (line.isEmpty()) continue;
+        // Başlık
+        private int width = -1, height = -1;
+        private int widthLine, heightLine;
+        private boolean waveSection;
+        private boolean sawWaveHeader;
 
-                if (line.startsWith("WIDTH")) {
-                    width = Integer.parseInt(line.split(":")[1].trim());
+        // Yol hücreleri ve tanımlandıkları satırlar
+        private int[] path = new int[64];
+        private int[] pathLines = new int[64];
+        private int pathCount;
+        private int[] firstSeenLine;            // Hücre başına ilk tanım satırı (tekrar kontrolü)
 
-                } else if (line.startsWith("HEIGHT")) {
-                    height = Integer.parseInt(line.split(":")[1].trim());
+        // Spawn/çıkış hücreleri ve satırları
+        private int[] spawns = new int[4], spawnLines = new int[4];
+        private int spawnCount;
+        private int[] exits = new int[4], exitLines = new int[4];
+        private int exitCount;
 
-                } else if (line.startsWith("WAVE_DATA")) {
-                    isWaveSection = true;
+        private final List<Wave> waves = new ArrayList<>();
 
-                } else if (!isWaveSection) {
-                    // Yol hücresi örneği: "2,3"
-                    pathCells.add(line);
+        Parser(String source) {
+            this.source = source;
+        }
+
+        void acceptLine(String text) {
+            line = text;
+            lineNo++;
+            pos = 0;
 
+            skipSpaces();
+            if (atEnd() || peek() == '#') return;
+
+            try {
+                char c = peek();
+                if (isLetter(c)) {
+                    keywordLine();
+                } else if (isDigit(c) || c == '-' || c == '+') {
+                    if (waveSection) {
+                        waveLine();
+                    } else {
+                        pathLine();
+                    }
                 } else {
-                    // Dalga verisi örneği: "3 2 1 1.5 2.0"
-                    String[] parts = line.split(" ");
-                    if (parts.length >= 5) {
-                        int slow = Integer.parseInt(parts[0]);
-                        int normal = Integer.parseInt(parts[1]);
-                        int fast = Integer.parseInt(parts[2]);
-                        double delayBetween = Double.parseDouble(parts[3]);
-                        double delayStart = Double.parseDouble(parts[4]);
-
-                        waves.add(new Wave(slow, normal, fast, delayBetween, delayStart));
+                    throw error(pos, "Beklenmeyen karakter '" + c + "'");
+                }
+            } catch (LineError e) {
+                report(lineNo, e.column, e.getMessage());
+            }
+        }
+
+        // --- Satır türleri ---
+
+        private void keywordLine() {
+            int start = pos;
+            while (!atEnd() && (isLetter(peek()) || peek() == '_')) pos++;
+            String keyword = line.substring(start, pos);
+
+            switch (keyword) {
+                case "WIDTH" -> {
+                    expectColon();
+                    if (width >= 0) throw error(start, "WIDTH tekrar tanımlandı (ilk tanım: satır " + widthLine + ")");
+                    width = readDimension();
+                    widthLine = lineNo;
+                    expectEndOfLine();
+                }
+                case "HEIGHT" -> {
+                    expectColon();
+                    if (height >= 0) throw error(start, "HEIGHT tekrar tanımlandı (ilk tanım: satır " + heightLine + ")");
+                    height = readDimension();
+                    heightLine = lineNo;
+                    expectEndOfLine();
+                }
+                case "SPAWN", "EXIT" -> {
+                    if (waveSection) throw error(start, keyword + " WAVE_DATA bölümünden önce tanımlanmalı");
+                    expectColon();
+                    int cell = readCell();
+                    expectEndOfLine();
+                    if (keyword.equals("SPAWN")) {
+                        if (spawnCount == spawns.length) {
+                            spawns = Arrays.copyOf(spawns, spawnCount * 2);
+                            spawnLines = Arrays.copyOf(spawnLines, spawnCount * 2);
+                        }
+                        spawnLines[spawnCount] = lineNo;
+                        spawns[spawnCount++] = cell;
+                    } else {
+                        if (exitCount == exits.length) {
+                            exits = Arrays.copyOf(exits, exitCount * 2);
+                            exitLines = Arrays.copyOf(exitLines, exitCount * 2);
+                        }
+                        exitLines[exitCount] = lineNo;
+                        exits[exitCount++] = cell;
                     }
                 }
+                case "WAVE_DATA" -> {
+                    if (sawWaveHeader) throw error(start, "WAVE_DATA birden fazla kez tanımlandı");
+                    waveSection = true;     // Başlık hatalı olsa da sonraki satırlar dalga olarak okunur
+                    sawWaveHeader = true;
+                    skipSpaces();
+                    if (!atEnd() && peek() == ':') pos++;
+                    expectEndOfLine();
+                }
+                default -> throw error(start, "Bilinmeyen anahtar kelime '" + keyword + "'");
+            }
+        }
+
+        private void pathLine() {
+            int cell = readCell();
+            expectEndOfLine();
+
+            if (firstSeenLine[cell] != 0) {
+                throw error(0, "Yol hücresi tekrar tanımlandı (ilk tanım: satır " + firstSeenLine[cell] + ")");
             }
+            firstSeenLine[cell] = lineNo;
 
-        } catch (Exception e) {
-            // Daha iyi hata yönetimi yapılabilir (GUI uyarısı vs.)
-            System.err.println("Hata: Seviye dosyası okunamadı → " + e.getMessage());
+            if (pathCount == path.length) {
+                path = Arrays.copyOf(path, pathCount * 2);
+                pathLines = Arrays.copyOf(pathLines, pathCount * 2);
+            }
+            pathLines[pathCount] = lineNo;
+            path[pathCount++] = cell;
         }
-    }
 
-    // --- Getter metodları ---
+        private void waveLine() {
+            int slow = readCount("yavaş düşman sayısı");
+            int normal = readCount("normal düşman sayısı");
+            int fast = readCount("hızlı düşman sayısı");
+            double delayBetween = readSeconds("düşmanlar arası gecikme");
+            double startDelay = readSeconds("başlama gecikmesi");
+            expectEndOfLine();
 
-    /**
-     * Harita genişliğini döndürür.
-     */
-    public int getWidth() {
-        return width;
-    }
+            if (slow + normal + fast == 0) throw error(0, "Dalga en az bir düşman içermeli");
+            waves.add(new Wave(slow, normal, fast, delayBetween, startDelay));
+        }
 
-    /**
-     * Harita yüksekliğini döndürür.
-     */
-    public int getHeight() {
-        return height;
-    }
+        // --- Alan okuyucuları ---
 
-    /**
-     * Yol hücrelerini ("row,col" formatında) döndürür.
-     */
-    public List<String> getPathCells() {
-        return pathCells;
+        private int readDimension() {
+            skipSpaces();
+            int start = pos;
+            int value = readInt();
+            if (value < 1 || value > MAX_DIMENSION) {
+                throw error(start, "Boyut 1 ile " + MAX_DIMENSION + " arasında olmalı, okunan: " + value);
+            }
+            return value;
+        }
+
+        /**
+         * "row,col" okur, harita sınırlarını kontrol eder ve paketlenmiş hücreyi döndürür.
+         */
+        private int readCell() {
+            if (width < 0 || height < 0) {
+                throw error(pos, "Hücrelerden önce WIDTH ve HEIGHT tanımlanmalı");
+            }
+            if (firstSeenLine == null) firstSeenLine = new int[width * height];
+
+            skipSpaces();
+            int rowStart = pos;
+            int row = readInt();
+            skipSpaces();
+            if (atEnd() || peek() != ',') throw error(pos, "',' bekleniyordu");
+            pos++;
+            skipSpaces();
+            int colStart = pos;
+            int col = readInt();
+
+            if (row < 0 || row >= height) {
+                throw error(rowStart, "Satır " + row + " harita dışında (0.." + (height - 1) + ")");
+            }
+            if (col < 0 || col >= width) {
+                throw error(colStart, "Sütun " + col + " harita dışında (0.." + (width - 1) + ")");
+            }
+            return row * width + col;
+        }
+
+        private int readCount(String field) {
+            skipSpaces();
+            int start = pos;
+            if (atEnd()) throw error(pos, "Eksik alan: " + field);
+            int value = readInt();
+            if (value < 0) throw error(start, field + " negatif olamaz");
+            return value;
+        }
+
+        private double readSeconds(String field) {
+            skipSpaces();
+            int start = pos;
+            if (atEnd()) throw error(pos, "Eksik alan: " + field);
+            while (!atEnd() && !isSpace(peek())) pos++;
+
+            double value;
+            try {
+                value = Double.parseDouble(line.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error(start, field + " sayı değil: '" + line.substring(start, pos) + "'");
+            }
+            if (!Double.isFinite(value) || value < 0) throw error(start, field + " negatif olmayan bir sayı olmalı");
+            return value;
+        }
+
+        /**
+         * İşaretli tam sayı okur (taşma kontrollü).
+         */
+        private int readInt() {
+            int start = pos;
+            boolean negative = false;
+            if (!atEnd() && (peek() == '-' || peek() == '+')) {
+                negative = peek() == '-';
+                pos++;
+            }
+            if (atEnd() || !isDigit(peek())) throw error(start, "Tam sayı bekleniyordu");
+
+            long value = 0;
+            while (!atEnd() && isDigit(peek())) {
+                value = value * 10 + (peek() - '0');
+                if (value > Integer.MAX_VALUE) throw error(start, "Sayı çok büyük");
+                pos++;
+            }
+            if (!atEnd() && !isSpace(peek()) && peek() != ',') {
+                throw error(pos, "Geçersiz karakter '" + peek() + "'");
+            }
+            return (int) (negative ? -value : value);
+        }
+
+        private void expectColon() {
+            skipSpaces();
+            if (atEnd() || peek() != ':') throw error(pos, "':' bekleniyordu");
+            pos++;
+        }
+
+        private void expectEndOfLine() {
+            skipSpaces();
+            if (!atEnd() && peek() != '#') throw error(pos, "Satır sonunda fazladan içerik");
+        }
+
+        // --- Dosya sonu doğrulamaları ---
+
+        LevelData finish() {
+            if (width < 0) report(0, 0, "WIDTH tanımlanmamış");
+            if (height < 0) report(0, 0, "HEIGHT tanımlanmamış");
+            if (pathCount == 0) report(0, 0, "Yol hücresi tanımlanmamış");
+            if (!sawWaveHeader) report(0, 0, "WAVE_DATA bölümü tanımlanmamış");
+            else if (waves.isEmpty()) report(0, 0, "En az bir dalga tanımlanmalı");
+
+            if (pathCount > 0) {
+                if (spawnCount == 0 && exitCount == 0) {
+                    validateOrderedPath();
+                } else {
+                    validateNetwork();
+                }
+            }
+
+            if (!diagnostics.isEmpty()) {
+                throw new LevelFormatException(source, firstErrorLine, firstErrorColumn, diagnostics, null);
+            }
+
+            return new LevelData(source, width, height,
+                    Arrays.copyOf(path, pathCount),
+                    Arrays.copyOf(spawns, spawnCount),
+                    Arrays.copyOf(exits, exitCount),
+                    waves);
+        }
+
+        /**
+         * Sıralı tek yolda ardışık hücreler yatay/dikey komşu olmalıdır.
+         */
+        private void validateOrderedPath() {
+            for (int i = 1; i < pathCount; i++) {
+                int prev = path[i - 1];
+                int cell = path[i];
+                int dr = Math.abs(prev / width - cell / width);
+                int dc = Math.abs(prev % width - cell % width);
+                if (dr + dc != 1) {
+                    report(pathLines[i], 1, "Yol hücresi önceki hücreye (" + (prev / width) + "," + (prev % width)
+                            + ", satır " + pathLines[i - 1] + ") komşu değil");
+                }
+            }
+        }
+
+        /**
+         * Ağ modunda spawn/çıkışlar yol üzerinde olmalı ve her spawn bir çıkışa ulaşabilmelidir.
+         */
+        private void validateNetwork() {
+            if (spawnCount == 0) report(0, 0, "EXIT tanımlanmış ama SPAWN yok");
+            if (exitCount == 0) report(0, 0, "SPAWN tanımlanmış ama EXIT yok");
+
+            BitSet mask = new BitSet(width * height);
+            for (int i = 0; i < pathCount; i++) mask.set(path[i]);
+
+            boolean endpointsOnPath = true;
+            for (int i = 0; i < spawnCount; i++) {
+                if (!mask.get(spawns[i])) {
+                    report(spawnLines[i], 1, "SPAWN bir yol hücresi değil");
+                    endpointsOnPath = false;
+                }
+            }
+            for (int i = 0; i < exitCount; i++) {
+                if (!mask.get(exits[i])) {
+                    report(exitLines[i], 1, "EXIT bir yol hücresi değil");
+                    endpointsOnPath = false;
+                }
+            }
+            if (!endpointsOnPath || spawnCount == 0 || exitCount == 0) return;
+
+            PathNetwork network = PathNetwork.fromNetwork(width, height, mask,
+                    Arrays.copyOf(spawns, spawnCount), Arrays.copyOf(exits, exitCount), 0);
+            for (int i = 0; i < spawnCount; i++) {
+                if (network.distanceToExit(spawns[i]) == PathNetwork.UNREACHABLE) {
+                    report(spawnLines[i], 1, "SPAWN hiçbir çıkışa bağlı değil");
+                }
+            }
+        }
+
+        // --- Yardımcılar ---
+
+        private void report(int lineNumber, int column, String message) {
+            if (diagnostics.isEmpty()) {
+                firstErrorLine = lineNumber;
+                firstErrorColumn = column;
+            }
+            if (diagnostics.size() < MAX_DIAGNOSTICS) {
+                diagnostics.add(LevelFormatException.format(source, lineNumber, column, message));
+            }
+        }
+
+        private LineError error(int index, String message) {
+            return new LineError(index + 1, message);
+        }
+
+        private boolean atEnd() {
+            return pos >= line.length();
+        }
+
+        private char peek() {
+            return line.charAt(pos);
+        }
+
+        private void skipSpaces() {
+            while (!atEnd() && isSpace(peek())) pos++;
+        }
+
+        private static boolean isSpace(char c) {
+            return c == ' ' || c == '\t' || c == '\r' || c == '\uFEFF';
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+
+        private static boolean isLetter(char c) {
+            return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z');
+        }
     }
 
     /**
-     * Tüm Wave (dalgaları) döndürür.
+     * Bir satırdaki ilk hatayı taşır; satırın geri kalanı atlanır.
      */
-    public List<Wave> getWaves() {
-        return waves;
+    private static final class LineError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final int column;
+
+        LineError(int column, String message) {
+            super(message, null, false, false);
+            this.column = column;
+        }
     }
 }
@@ -1,11 +1,12 @@
 package application;
 
 import character.King;
-import javafx.animation.Animation;
+import character.SpriteSheet;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.input.InputEvent;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
@@ -13,41 +14,68 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.shape.Rectangle;
 import javafx.stage.Stage;
 import javafx.util.Duration;
-import towers.LaserTower;
 
 /**
  * Tüm levelleri dinamik şekilde yöneten merkezi Level sınıfı.
  * Farklı seviye yapılandırmaları (txt yolu, başlangıç para, king konumu vs.) constructor parametresiyle alınır.
+ *
+ * Kurulum iki aşamalıdır: getScene() sahneyi oluşturur (önceden, örn. WinScreen gösterilirken),
+ * start() ise oyun döngüsünü, dalgaları ve bitiş olaylarını başlatır.
  */
 public class LevelManager extends Level {
-    private final LevelLoader loader;
-    private King king;
-    private final String levelFilePath;
-    private final int startingMoney;
+    // Görüş alanının sahnede kaplayabileceği en büyük alan için pay (sağ panel + kenar boşlukları)
+    private static final int MAX_VIEW_MARGIN_X = 300;
+    private static final int MAX_VIEW_MARGIN_Y = 40;
+
+    private final SpriteSheet kingSheet;
     private final double kingX;
     private final double kingY;
+    private King king;
+    private Camera camera;
+    private Scene scene;
 
     public LevelManager(String levelFilePath, int startingMoney, double kingX, double kingY) {
-        this.levelFilePath = levelFilePath;
-        this.startingMoney = startingMoney;
+        this(LevelCache.load(levelFilePath), startingMoney, kingX, kingY);
+    }
+
+    private LevelManager(LevelData level, int startingMoney, double kingX, double kingY) {
+        this(level, new Map(level), SpriteAtlas.get().sheet(AssetCache.KING_SHEET),
+                startingMoney, kingX, kingY);
+    }
+
+    /**
+     * Arka planda hazırlanmış parçalardan seviye oluşturur (bkz. LevelPreloader).
+     * JavaFX thread'inde çağrılmalıdır.
+     *
+     * @param level     Yüklenmiş seviye verisi
+     * @param map       Hücre katmanı önceden çizilmiş harita
+     * @param kingSheet Kral sprite'ının atlastaki bölgesi
+     */
+    public LevelManager(LevelData level, Map map, SpriteSheet kingSheet, int startingMoney, double kingX, double kingY) {
+        this.kingSheet = kingSheet;
         this.kingX = kingX;
         this.kingY = kingY;
 
-        this.loader = new LevelLoader(levelFilePath);
-        this.map = new Map(loader.getWidth(), loader.getHeight(), loader.getPathCells());
+        this.map = map;
         this.gameState = new GameState(startingMoney);
         this.uiManager = new UIManager(gameState, map);
         this.gameState.setUIManager(uiManager);
-        this.waveManager = new WaveManager(loader.getWaves(), map, gameState, king);
+        this.waveManager = new WaveManager(level.getWaves(), map, gameState, king);
     }
 
     @Override
     public Scene getScene(Stage stage) {
-        // Satış alanı görünmeyen boş dikdörtgen
-        Rectangle rec = new Rectangle(
-            map.getTileSize() + ((map.getWidth() - 1) * (map.getGridSpacing() + map.getTileSize())) + 3,
-            map.getTileSize() + ((map.getWidth() - 1) * (map.getGridSpacing() + map.getTileSize())) + 3
-        );
+        if (scene != null) return scene;    // Sahne önceden kurulduysa tekrar oluşturulmaz
+
+        // Oyun alanı (harita + overlay) kamera arkasına alınır; büyük haritalar kaydırılıp yakınlaştırılabilir
+        GridPane grid = new GridPane();
+        grid.getChildren().add(map.getView());
+        grid.getChildren().add(uiManager.getOverlayPane());
+        camera = new Camera(grid, map.getPixelWidth(), map.getPixelHeight(),
+                Game.SCENE_WIDTH - MAX_VIEW_MARGIN_X, Game.SCENE_HEIGHT - MAX_VIEW_MARGIN_Y);
+
+        // Satış alanı görünmeyen boş dikdörtgen (görüş alanı kadar)
+        Rectangle rec = new Rectangle(camera.getViewWidth() + 3, camera.getViewHeight() + 3);
         rec.setStyle("-fx-fill: #543D1E; -fx-opacity: 0;");
         rec.setArcHeight(8);
         rec.setArcWidth(8);
@@ -58,14 +86,10 @@ public class LevelManager extends Level {
         BorderPane layout = new BorderPane();
         StackPane center = new StackPane();
         center.setStyle("-fx-background-color: #FAF1DA;");
-        GridPane grid = new GridPane();
-        grid.getChildren().add(map.getGridPane());
-        grid.getChildren().add(uiManager.getOverlayPane());
-        grid.setAlignment(Pos.CENTER);
-        center.getChildren().addAll(grid, rec);
+        center.getChildren().addAll(camera.getViewport(), rec);
 
         // Kral nesnesi
-        this.king = new King(getClass().getResource("/images/king_sheet_combined.png").toExternalForm());
+        this.king = new King(kingSheet);
         this.gameState.setKing(this.king);
         this.waveManager.setKing(this.king);
         center.getChildren().addAll(king.getView(), king.getQuoteLabel());
@@ -80,71 +104,66 @@ public class LevelManager extends Level {
         layout.setCenter(center);
         layout.setRight(uiManager.getTowerPanel());
 
-        Scene scene = new Scene(layout, Game.SCENE_WIDTH, Game.SCENE_HEIGHT);
+        scene = new Scene(layout, Game.SCENE_WIDTH, Game.SCENE_HEIGHT);
 
         scene.setOnKeyPressed(e -> {
             if (e.getCode() == KeyCode.SPACE) {
                 uiManager.toggleUpgradeMode();
+            } else {
+                camera.handleKey(e.getCode());
             }
         });
 
-        // Kuleler, davranışlar ve dalga sistemi başlatılıyor
+        // Oyuncu girdisi uykudaki render döngüsünü hemen uyandırır (kamera, sürükleme, yerleştirme)
+        scene.addEventFilter(InputEvent.ANY, e -> GameLoop.wake());
+
         uiManager.enablePlacementBehavior(center);
-        TowerManager.setOverlayPane(uiManager.getOverlayPane());
-        TowerManager.start();
+        return scene;
+    }
+
+    @Override
+    public void start(Stage stage) {
+        getScene(stage);
+
+        // Kuleler, davranışlar ve dalga sistemi başlatılıyor
+        map.playRevealAnimation();
+        TowerManager.setLayers(uiManager.getLayers());
+        GameLoop.setCamera(camera);
         gameState.setWaveManager(waveManager);
         waveManager.start(stage, uiManager);
+        GameLoop.start(waveManager);
+
+        // Kazanma olayı: son dalga spawn edildi ve alan boşaldı
+        gameState.addGameWonListener(() -> {
+            waveManager.stopAllWaves();
+            GameLoop.stop();    // Simülasyon durur; düşman, mermi ve ışınlar temizlenir
+            uiManager.hideUpgradeUI();
+            TowerManager.clear();
+
+            Timeline delay = new Timeline(new KeyFrame(Duration.seconds(2), ev -> {
+                if (Game.currentLevel == 5) {
+                    Game.mainStage.setScene(EndWinScreen.openScene());
+                } else {
+                    Game.mainStage.setScene(WinScreen.openScene(() -> Game.loadLevel(Game.currentLevel + 1)));
+                }
+            }));
+            delay.setCycleCount(1);
+            delay.play();
+        });
 
-        // Kazanma kontrolü
-        final Timeline[] winCheck = new Timeline[1];
-        winCheck[0] = new Timeline(new KeyFrame(Duration.seconds(0.5), e -> {
-            if (gameState.isGameWon()) {
-                winCheck[0].stop();
-
-                LaserTower.clearAllLasers(uiManager.getOverlayPane());
-                waveManager.stopAllWaves();
-                TowerManager.stop();
-                uiManager.hideUpgradeUI();
-                EnemyManager.clearAll(uiManager.getOverlayPane());
-                TowerManager.clear();
-
-                Timeline delay = new Timeline(new KeyFrame(Duration.seconds(2), ev -> {
-                    if (Game.currentLevel == 5) {
-                        Game.mainStage.setScene(EndWinScreen.openScene());
-                    } else {
-                        Game.mainStage.setScene(WinScreen.openScene(() -> Game.loadLevel(Game.currentLevel + 1)));
-                    }
-                }));
-                delay.setCycleCount(1);
-                delay.play();
-            }
-        }));
-        winCheck[0].setCycleCount(Animation.INDEFINITE);
-        winCheck[0].play();
-
-        // Kaybetme kontrolü
-        final Timeline[] loseCheck = new Timeline[1];
-        loseCheck[0] = new Timeline(new KeyFrame(Duration.seconds(0.5), e -> {
-            if (gameState.isGameOver()) {
-                loseCheck[0].stop();
-
-                LaserTower.clearAllLasers(uiManager.getOverlayPane());
-                waveManager.stopAllWaves();
-                uiManager.hideUpgradeUI();
-                TowerManager.stop();
-                TowerManager.clear();
-
-                Timeline delay = new Timeline(new KeyFrame(Duration.seconds(3), ev -> {
-                    Game.mainStage.setScene(LoseScreen.openScene());
-                }));
-                delay.setCycleCount(1);
-                delay.play();
-            }
-        }));
-        loseCheck[0].setCycleCount(Animation.INDEFINITE);
-        loseCheck[0].play();
-
-        return scene;
+        // Kaybetme olayı: canlar tükendi
+        gameState.addGameOverListener(() -> {
+            waveManager.stopAllWaves();
+            uiManager.hideUpgradeUI();
+            GameLoop.stop();
+            TowerManager.clear();
+
+            Timeline delay = new Timeline(new KeyFrame(Duration.seconds(3), ev -> {
+                Game.mainStage.setScene(LoseScreen.openScene());
+            }));
+            delay.setCycleCount(1);
+            delay.play();
+        });
     }
 
     @Override
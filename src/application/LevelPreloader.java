@@ -0,0 +1,121 @@
+package application;
+
+import javafx.application.Platform;
+import character.SpriteSheet;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * LevelPreloader, bir sonraki seviyeyi oyuncu henüz geçiş ekranındayken hazırlar.
+ * - Arka plan thread'i: seviye verisi (önbellek/derleme), yol ağı, önceden çizilmiş harita katmanı, sprite atlası.
+ * - JavaFX thread'i (hazırlık bitince): LevelManager ve sahne düğümleri.
+ * Böylece Game.loadLevel() sırasında yalnızca hazır sahne takılır ve oyun başlatılır.
+ *
+ * Tüm public metotlar JavaFX thread'inden çağrılmalıdır.
+ */
+public class LevelPreloader {
+
+    /**
+     * Arka planda hazırlanan, sahne düğümü içermeyen parçalar.
+     */
+    private static final class Prepared {
+        final LevelData data;
+        final Map map;
+        final SpriteSheet kingSheet;
+
+        Prepared(LevelData data, Map map, SpriteSheet kingSheet) {
+            this.data = data;
+            this.map = map;
+            this.kingSheet = kingSheet;
+        }
+    }
+
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "level-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static int pendingLevel = -1;
+    private static CompletableFuture<Prepared> pending;
+    private static Level ready;                 // Sahnesi kurulmuş, başlatılmayı bekleyen seviye
+    private static int generation = 0;         // Eski hazırlıkların sonuçlarını yok saymak için
+
+    private LevelPreloader() {
+    }
+
+    /**
+     * Seviyenin arka planda hazırlanmasını başlatır. Aynı seviye zaten hazırlanıyorsa bir şey yapmaz.
+     */
+    public static void prepare(int levelNumber) {
+        LevelSettings settings = LevelSettings.of(levelNumber);
+        if (settings == null || levelNumber == pendingLevel) return;
+
+        int token = ++generation;
+        pendingLevel = levelNumber;
+        ready = null;
+
+        pending = CompletableFuture.supplyAsync(() -> {
+            LevelData data = LevelCache.load(settings.path);
+            Map map = new Map(data);
+            SpriteSheet kingSheet = SpriteAtlas.get().sheet(AssetCache.KING_SHEET);
+            return new Prepared(data, map, kingSheet);
+        }, executor);
+
+        pending.whenComplete((prepared, error) -> Platform.runLater(() -> {
+            if (token != generation) return;    // Bu arada başka bir seviye istendi veya alındı
+
+            if (error != null) {
+                // Hata, seviye gerçekten yüklenmek istendiğinde tekrar denenip raporlanır
+                clear();
+                return;
+            }
+            ready = build(prepared, settings);
+        }));
+    }
+
+    /**
+     * Hazırlanmış seviyeyi teslim eder ve önbellekten çıkarır.
+     * Arka plan kısmı henüz bitmediyse bitmesi beklenir (yine de sıfırdan yüklemekten kısadır).
+     *
+     * @return Sahnesi kurulmuş seviye veya bu seviye için hazırlık yoksa null
+     * @throws LevelFormatException Arka planda yüklenen seviye dosyası geçersizse
+     */
+    public static Level take(int levelNumber) {
+        if (levelNumber != pendingLevel || pending == null) return null;
+
+        Level level = ready;
+        if (level == null) {
+            try {
+                level = build(pending.join(), LevelSettings.of(levelNumber));
+            } catch (CompletionException e) {
+                clear();
+                if (e.getCause() instanceof LevelFormatException formatError) throw formatError;
+                return null;
+            }
+        }
+
+        clear();
+        return level;
+    }
+
+    /**
+     * Bekleyen hazırlığı unutur (sonucu geldiğinde yok sayılır).
+     */
+    public static void clear() {
+        generation++;
+        pendingLevel = -1;
+        pending = null;
+        ready = null;
+    }
+
+    private static Level build(Prepared prepared, LevelSettings settings) {
+        Level level = new LevelManager(prepared.data, prepared.map, prepared.kingSheet,
+                settings.money, settings.kingX, settings.kingY);
+        level.getScene(Game.mainStage);     // Düğümler şimdi, geçiş anından önce kurulur
+        return level;
+    }
+}
@@ -0,0 +1,39 @@
+package application;
+
+/**
+ * LevelSettings, her seviyeye özel başlangıç ayarlarını (dosya yolu, başlangıç parası, kral konumu) tutar.
+ */
+public final class LevelSettings {
+
+    public static final int LEVEL_COUNT = 5;
+
+    public final int levelNumber;
+    public final String path;       // classpath (resources klasörü)
+    public final int money;
+    public final double kingX;
+    public final double kingY;
+
+    private LevelSettings(int levelNumber, int money, double kingX, double kingY) {
+        this.levelNumber = levelNumber;
+        this.path = "/level" + levelNumber + ".txt";
+        this.money = money;
+        this.kingX = kingX;
+        this.kingY = kingY;
+    }
+
+    /**
+     * Verilen seviyenin ayarlarını döndürür.
+     *
+     * @return Ayarlar veya geçersiz seviye numarası için null
+     */
+    public static LevelSettings of(int levelNumber) {
+        return switch (levelNumber) {
+            case 1 -> new LevelSettings(1, 1000, 300, 25);
+            case 2 -> new LevelSettings(2, 150, 300, 130);
+            case 3 -> new LevelSettings(3, 200, 300, -30);
+            case 4 -> new LevelSettings(4, 250, 430, 50);
+            case 5 -> new LevelSettings(5, 300, 430, 260);
+            default -> null;
+        };
+    }
+}
@@ -1,134 +1,315 @@
 package application;
 
 import javafx.animation.KeyFrame;
-import javafx.animation.ScaleTransition;
+import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
-import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
+import towers.Tower;
 
-import java.util.List;
+import java.util.BitSet;
+import java.util.Random;
 
 /**
  * Map sınıfı, oyundaki grid tabanlı harita yapısını temsil eder.
- * - Grid oluşturur ve animasyonla sahneye ekler.
+ * - Statik hücre katmanını hücre başına bir piksellik küçük bir resme çizer; resim harita boyutuna
+ *   yumuşatmadan büyütülür, aralıklar ve yuvarlak köşeler üstüne tekrarlanan bir maske ile çizilir.
+ *   Bellek hücre sayısıyla orantılıdır (1000 × 1000 harita ≈ 4 MB), haritanın piksel boyutuyla değil.
+ * - Veri ve çizim kısmı JavaFX thread'i dışında kurulabilir; görünüm ilk getView() çağrısında oluşur.
  * - Yol hücrelerini (path) takip eder.
+ * - Nokta → hücre dönüşümünü aritmetik olarak yapar ve hücre doluluğunu tutar.
  */
 public class Map {
 
+    private static final int PATH_COLOR = 0xFFF2E0C9;      // Path hücresi
+    private static final int GRASS_COLOR_A = 0xFFFAC443;   // Sarı tonları
+    private static final int GRASS_COLOR_B = 0xFFFBD058;
+    private static final int GAP_COLOR = 0xFFFAF1DA;       // Hücre aralıkları: oyun alanının zemin rengi (LevelManager)
+    private static final int CORNER_RADIUS = 4;            // Eski Rectangle arc 8 → yarıçap 4
+
+    private static WritableImage cellMask;     // Tek hücre + aralık maskesi; tüm haritalar paylaşır (JavaFX thread'i)
+
     private final int width;                   // Grid sütun sayısı
     private final int height;                  // Grid satır sayısı
     private final int tileSize = 50;           // Hücre boyutu (px)
     private final double spacing = 3;          // Hücreler arası boşluk
 
-    private final List<String> pathCells;      // Yol hücreleri (örnek: "2,3")
-    private final Rectangle[][] grid;          // Tüm hücrelerin görsel temsili
-    private final GridPane gridPane;           // JavaFX görünüm bileşeni
+    private final BitSet pathMask;             // Yol hücresi mi? (row * width + col)
+    private final int[] path;                  // Sıralı yol hücreleri (row * width + col)
+    private final Tower[] occupants;           // Hücre başına yerleştirilmiş kule (row * width + col)
+    private final PathNetwork network;         // Spawn → çıkış mesafe alanı ve adım tablosu
+
+    private final WritableImage tileColors;    // Hücre başına bir piksel renk (width × height)
+    private Pane view;                         // JavaFX görünüm bileşeni, ilk erişimde oluşur
 
     /**
      * Yeni bir Map (harita) nesnesi oluşturur.
+     * Spawn/çıkış verilmezse yol hücreleri sıralı tek yol olarak yorumlanır
+     * (ilk hücre spawn, son hücre çıkış); verilirse çatallı bir yol ağı kurulur.
+     * Hücreler LevelLoader tarafından doğrulanmış olmalıdır.
+     * Sahne düğümü oluşturmadığı için arka plan thread'inde çağrılabilir.
      *
-     * @param width     Grid sütun sayısı
-     * @param height    Grid satır sayısı
-     * @param pathCells Yol olarak işaretlenen hücrelerin listesi ("row,col" şeklinde)
+     * @param width  Grid sütun sayısı
+     * @param height Grid satır sayısı
+     * @param path   Yol hücreleri (row * width + col)
+     * @param spawns Spawn hücreleri (boş olabilir)
+     * @param exits  Çıkış hücreleri (boş olabilir)
      */
-    public Map(int width, int height, List<String> pathCells) {
+    public Map(int width, int height, int[] path, int[] spawns, int[] exits) {
         this.width = width;
         this.height = height;
-        this.pathCells = pathCells;
-        this.grid = new Rectangle[height][width];
-        this.gridPane = new GridPane();
-        gridPane.setHgap(spacing);
-        gridPane.setVgap(spacing);
+        this.path = path;
+        this.pathMask = new BitSet(width * height);
+        for (int cell : path) pathMask.set(cell);
+        this.occupants = new Tower[width * height];
+
+        if (spawns.length == 0 && exits.length == 0) {
+            this.network = PathNetwork.fromOrderedPath(width, height, path, System.nanoTime());
+        } else {
+            this.network = PathNetwork.fromNetwork(width, height, pathMask, spawns, exits, System.nanoTime());
+        }
 
-        createAnimatedGrid();
+        this.tileColors = renderTileLayer();
     }
 
     /**
-     * Haritayı oluşturan hücreleri hazırlar ve sahneye animasyonlu şekilde ekler.
+     * Doğrulanmış seviye verisinden harita oluşturur.
      */
-    private void createAnimatedGrid() {
-        Timeline animation = new Timeline();
-        double delay = 0;
+    public Map(LevelData level) {
+        this(level.getWidth(), level.getHeight(), level.getPath(), level.getSpawns(), level.getExits());
+    }
 
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                Rectangle cell = new Rectangle(0, 0); // Başta nokta gibi
-                cell.setWidth(tileSize);
-                cell.setHeight(tileSize);
-                cell.setArcWidth(8);
-                cell.setArcHeight(8);
+    /**
+     * Statik hücre katmanını bir kez çizer: her hücre, renginde tek bir pikseldir.
+     * Hücre şekli (yuvarlak köşeler, aralıklar) getView()'daki maske ile verilir; hücre başına Node
+     * ya da tam çözünürlüklü piksel bloğu oluşturulmaz.
+     */
+    private WritableImage renderTileLayer() {
+        int[] colors = new int[width * height];
+        Random random = new Random();
+        for (int cell = 0; cell < colors.length; cell++) {
+            if (pathMask.get(cell)) {
+                colors[cell] = PATH_COLOR;
+            } else {
+                colors[cell] = random.nextBoolean() ? GRASS_COLOR_A : GRASS_COLOR_B;
+            }
+        }
 
-                String key = row + "," + col;
-                if (pathCells.contains(key)) {
-                    cell.setFill(Color.web("#F2E0C9")); // Path hücresi
-                } else {
-                    cell.setFill(Math.random() > 0.5 ? Color.web("#FAC443") : Color.web("#FBD058")); // Sarı tonları
-                }
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), colors, 0, width);
+        return image;
+    }
 
-                cell.setScaleX(0);
-                cell.setScaleY(0);
+    /**
+     * Bir hücre ve sağındaki/altındaki aralık kadar maske (pitch × pitch, ARGB): hücre içi saydam,
+     * aralıklar ve köşelerin dışı zemin rengindedir. Köşelerde kenar yumuşatması için kısmi alfa kullanılır;
+     * hücre renginin üstüne bindirilince eski yuvarlatılmış kare çizimiyle aynı sonucu verir.
+     */
+    private static WritableImage createCellMask(int tileSize, int pitch) {
+        int[] pixels = new int[pitch * pitch];
+        int rgb = GAP_COLOR & 0x00FFFFFF;
+        double r = CORNER_RADIUS;
 
-                grid[row][col] = cell;
-                gridPane.add(cell, col, row);
+        for (int y = 0; y < pitch; y++) {
+            for (int x = 0; x < pitch; x++) {
+                double coverage = 0;
+                if (x < tileSize && y < tileSize) {
+                    // Köşe bölgesindeyse en yakın köşe merkezine uzaklığa göre hücrenin kapladığı oran
+                    double cx = x + 0.5 < r ? r : (x + 0.5 > tileSize - r ? tileSize - r : x + 0.5);
+                    double cy = y + 0.5 < r ? r : (y + 0.5 > tileSize - r ? tileSize - r : y + 0.5);
+                    double dx = x + 0.5 - cx;
+                    double dy = y + 0.5 - cy;
+                    coverage = Math.max(0, Math.min(1, r + 0.5 - Math.sqrt(dx * dx + dy * dy)));
+                }
+                pixels[y * pitch + x] = ((int) Math.round((1 - coverage) * 255) << 24) | rgb;
             }
         }
-        
-        for (int j = 0; j < width; j++) {
-        	for(int i = 0; i < width; i++) {
-        		final int row = j;
-        		final int col = i;
-        		// Her hücre için animasyon başlatıyoruz
-                KeyFrame keyFrame = new KeyFrame(Duration.seconds(0.15 * j), event -> {
-                    // Animation her hücre için birer birer gerçekleşecek
-                    ScaleTransition scaleTransition = new ScaleTransition(Duration.seconds(0.3), grid[row][col]);
-                    scaleTransition.setFromX(0.0);  // Başlangıçta x boyutu 0 (nokta gibi)
-                    scaleTransition.setFromY(0.0);  // Başlangıçta y boyutu 0 (nokta gibi)
-                    scaleTransition.setToX(1.0);    // Sonunda x boyutu 1.0 olacak
-                    scaleTransition.setToY(1.0);    // Sonunda y boyutu 1.0 olacak
-                    scaleTransition.setCycleCount(1);  // Animasyon bir kez oynasın
-                    scaleTransition.setAutoReverse(false);  // Geriye dönmesin
-                    scaleTransition.play();  // Animasyonu başlat
-                });
-
-                animation.getKeyFrames().add(keyFrame);
-        	}              
-        }  
-        
-        animation.setCycleCount(1);
-        animation.play();
-        
+
+        WritableImage mask = new WritableImage(pitch, pitch);
+        mask.getPixelWriter().setPixels(0, 0, pitch, pitch, PixelFormat.getIntArgbInstance(), pixels, 0, pitch);
+        return mask;
+    }
+
+    /**
+     * Açılış animasyonu: harita satır satır yukarıdan aşağı açılır.
+     * Hücre başına ScaleTransition yerine tek bir clip yüksekliği canlandırılır.
+     * Seviye başlarken JavaFX thread'inde çağrılır.
+     */
+    public void playRevealAnimation() {
+        getView();  // Düğüm henüz yoksa oluştur
+        Rectangle clip = new Rectangle(getPixelWidth(), 0);
+        view.setClip(clip);
+
+        double rowDelay = 0.15;     // Eskisi gibi satır başına 0.15 sn
+        double rowGrow = 0.3;       // Son satırın açılma süresi
+        Duration total = Duration.seconds(rowDelay * height + rowGrow);
+
+        Timeline reveal = new Timeline(
+                new KeyFrame(Duration.ZERO, new KeyValue(clip.heightProperty(), 0)),
+                new KeyFrame(total, new KeyValue(clip.heightProperty(), getPixelHeight()))
+        );
+        reveal.setOnFinished(e -> view.setClip(null));
+        reveal.play();
+        LeakDetector.track(reveal, this);
     }
 
     // --- Erişim Metotları ---
 
     /**
-     * JavaFX GridPane bileşenini döndürür (ekranda gösterilecek harita).
+     * Haritanın görsel bileşenini döndürür (ekranda gösterilecek harita).
+     * İlk çağrıda hücre renklerini ve aralık maskesini gösteren düğüm oluşturulur (JavaFX thread'i).
+     */
+    public Pane getView() {
+        if (view == null) {
+            int pitch = tileSize + (int) spacing;
+            if (cellMask == null) cellMask = createCellMask(tileSize, pitch);
+
+            // Piksel başına bir hücre; yumuşatma kapalı olduğu için her hücre pitch × pitch düz renk olur.
+            // Son hücrenin sağındaki/altındaki aralık görüş penceresinin dışında kalır.
+            ImageView cells = new ImageView(tileColors);
+            cells.setViewport(new Rectangle2D(0, 0, width - spacing / pitch, height - spacing / pitch));
+            cells.setFitWidth(getPixelWidth());
+            cells.setFitHeight(getPixelHeight());
+            cells.setSmooth(false);
+
+            Rectangle grid = new Rectangle(getPixelWidth(), getPixelHeight());
+            grid.setFill(new ImagePattern(cellMask, 0, 0, pitch, pitch, false));
+
+            view = new Pane(cells, grid);
+            view.setPrefSize(getPixelWidth(), getPixelHeight());
+            view.setMinSize(getPixelWidth(), getPixelHeight());
+            view.setMaxSize(getPixelWidth(), getPixelHeight());
+        }
+        return view;
+    }
+
+    /**
+     * Haritanın piksel genişliği (boşluklar dahil).
      */
-    public GridPane getGridPane() {
-        return gridPane;
+    public int getPixelWidth() {
+        return (int) (width * tileSize + (width - 1) * spacing);
     }
 
     /**
-     * Belirli bir hücreyi (row, col) koordinatları ile döndürür.
+     * Haritanın piksel yüksekliği (boşluklar dahil).
      */
-    public Rectangle getCell(int row, int col) {
-        return grid[row][col];
+    public int getPixelHeight() {
+        return (int) (height * tileSize + (height - 1) * spacing);
     }
 
     /**
-     * Yol hücrelerinin listesini döndürür.
+     * Sıralı yol hücrelerini (row * width + col) döndürür. Dizi değiştirilmemelidir.
      */
-    public List<String> getPathCells() {
-        return pathCells;
+    public int[] getPath() {
+        return path;
     }
 
     /**
-     * Belirtilen koordinat bir yol hücresi mi?
+     * Yol ağını (mesafe alanı, sonraki adım tablosu, spawn/çıkışlar) döndürür.
+     */
+    public PathNetwork getPathNetwork() {
+        return network;
+    }
+
+    /**
+     * Belirtilen koordinat bir yol hücresi mi? (O(1))
      */
     public boolean isPathCell(int row, int col) {
-        return pathCells.contains(row + "," + col);
+        if (row < 0 || row >= height || col < 0 || col >= width) return false;
+        return pathMask.get(row * width + col);
+    }
+
+    // --- Hücre Hesaplamaları ---
+
+    /**
+     * Grid koordinatındaki bir noktanın hangi hücreye düştüğünü hesaplar.
+     * Hücreler arası boşluklar ve grid dışı noktalar için -1 döner.
+     *
+     * @param x Grid'e göre X
+     * @param y Grid'e göre Y
+     * @return Hücre indeksi (row * width + col) veya -1
+     */
+    public int cellAt(double x, double y) {
+        double pitch = tileSize + spacing;
+        if (x < 0 || y < 0) return -1;
+
+        int col = (int) (x / pitch);
+        int row = (int) (y / pitch);
+        if (col >= width || row >= height) return -1;
+
+        // Boşluğa denk gelen tıklamalar hiçbir hücreye ait değildir
+        if (x - col * pitch > tileSize || y - row * pitch > tileSize) return -1;
+
+        return row * width + col;
+    }
+
+    /**
+     * Hücre indeksinden satır numarasını döndürür.
+     */
+    public int cellRow(int cell) {
+        return cell / width;
+    }
+
+    /**
+     * Hücre indeksinden sütun numarasını döndürür.
+     */
+    public int cellCol(int cell) {
+        return cell % width;
+    }
+
+    /**
+     * Verilen sütunun merkez X koordinatı (grid'e göre).
+     */
+    public double cellCenterX(int col) {
+        return col * (tileSize + spacing) + tileSize / 2.0;
+    }
+
+    /**
+     * Verilen satırın merkez Y koordinatı (grid'e göre).
+     */
+    public double cellCenterY(int row) {
+        return row * (tileSize + spacing) + tileSize / 2.0;
+    }
+
+    // --- Hücre Doluluğu ---
+
+    /**
+     * Hücredeki kuleyi döndürür (boşsa null).
+     */
+    public Tower getOccupant(int row, int col) {
+        return occupants[row * width + col];
+    }
+
+    /**
+     * Kuleyi verilen hücreye yerleştirir. Kulenin eski hücresi varsa boşaltılır.
+     * Kule, menzil kapsamını bu haritanın yol ağından hesaplar.
+     */
+    public void occupy(int row, int col, Tower tower) {
+        vacate(tower);
+        occupants[row * width + col] = tower;
+        tower.setGridCell(row, col);
+        tower.setMap(this);
+    }
+
+    /**
+     * Kulenin bulunduğu hücreyi boşaltır (satış veya taşıma).
+     */
+    public void vacate(Tower tower) {
+        int row = tower.getGridRow();
+        int col = tower.getGridCol();
+        if (row < 0 || col < 0) return;
+
+        int index = row * width + col;
+        if (occupants[index] == tower) {
+            occupants[index] = null;
+        }
+        tower.setGridCell(-1, -1);
     }
 
     /**
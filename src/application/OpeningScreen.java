@@ -6,6 +6,7 @@ import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
@@ -18,6 +19,7 @@ import javafx.util.Duration;
 
 public class OpeningScreen {
 	public static Scene openScene(Runnable onPlay){
+		LevelPreloader.prepare(1); // İlk seviye menüdeyken arka planda hazırlanır
 		Label title = new Label("SLIME DEFENSE");
 		title.setFont(new Font("CAL SANS",60));
 		title.setStyle("-fx-text-fill: BLACK; -fx-font-weight: bold");
@@ -37,6 +39,29 @@ public class OpeningScreen {
 	        onPlay.run();
 	    });
 
+	    // Sprite ve sesler yüklenene kadar oyun başlatılamaz; ilerleme çubuğu gösterilir
+	    ProgressBar loadingBar = new ProgressBar();
+	    loadingBar.setPrefWidth(300);
+	    loadingBar.progressProperty().bind(AssetCache.progressProperty());
+	    Label loadingError = new Label();
+	    loadingError.setStyle("-fx-text-fill: DARKRED");
+	    loadingError.setVisible(false);
+	    loadingError.setManaged(false);
+	    btPLAY.setDisable(true);
+	    AssetCache.preloadAll().whenComplete((ignored, error) -> Platform.runLater(() -> {
+	        loadingBar.setVisible(false);
+	        loadingBar.setManaged(false);
+	        if (error != null) {
+	            // Sprite atlası olmadan oyun ilk düşmanda çöker; buton kapalı kalır
+	            Throwable cause = error.getCause() != null ? error.getCause() : error;
+	            loadingError.setText("Sprites could not be loaded: " + cause.getMessage());
+	            loadingError.setVisible(true);
+	            loadingError.setManaged(true);
+	            return;
+	        }
+	        btPLAY.setDisable(false);
+	    }));
+
 
 	    Button btQUIT = new Button();//üstteki geçici normalde new Level1().openScene()
 	    btQUIT.setGraphic(ButtonEffects.buttonText("QUIT"));
@@ -66,14 +91,14 @@ public class OpeningScreen {
 		    }
 		});
 		
-		Image bgImage = new Image(OpeningScreen.class.getResource("/images/Marmara_Üniversitesi_logo.png").toExternalForm()); 
+		Image bgImage = AssetCache.image(AssetCache.LOGO); 
 		ImageView bgImageView = new ImageView(bgImage);
 		bgImageView.setFitWidth(600);
 		bgImageView.setFitHeight(600);
 		bgImageView.setPreserveRatio(true);
 		bgImageView.setOpacity(0.05); // Şeffaflık
 		
-	    pane.getChildren().addAll(title,btPLAY, musicCheckbox,btQUIT);
+	    pane.getChildren().addAll(title,btPLAY,loadingBar,loadingError, musicCheckbox,btQUIT);
 	    pane.setAlignment(Pos.CENTER);
 	    stackpane.getChildren().addAll(bgImageView,pane);
 	    stackpane.setStyle("-fx-background-color: #FAF1DA;");
@@ -89,13 +114,13 @@ public class OpeningScreen {
 		 if (mediaPlayer != null) {
 			 return; // müzik çaldığından tekrar oluşturmuyorum
 		    }
-	    Media media = new Media(OpeningScreen.class.getResource("/media/openingTheme.mp3").toExternalForm());
+	    Media media = AssetCache.media(AssetCache.OPENING_THEME);
 	    mediaPlayer = new MediaPlayer(media);
 	    mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);// Sonsuz döngüde
 	    mediaPlayer.play();
 	}
 	private static void setupClick() {
-		Media media = new Media(OpeningScreen.class.getResource("/media/Button Sound Effects (Copyright Free) [LVEWkghDh9A] (online-audio-converter.com).mp3").toExternalForm());
+		Media media = AssetCache.media(AssetCache.CLICK_SOUND);
 		MediaPlayer clickSound = new MediaPlayer(media);
     	clickSound.setStartTime(Duration.seconds(18.8));
     	clickSound.setStopTime(Duration.seconds(20));
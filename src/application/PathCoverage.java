@@ -0,0 +1,171 @@
+package application;
+
+import java.util.Arrays;
+
+/**
+ * PathCoverage, bir kulenin menzil dairesinin yol ağıyla kesişimidir.
+ * Yol, hücre merkezleri arasındaki düz adımlardan oluşur (PathNetwork adım kimlikleri); her adım için
+ * menzilde kalan kısım, adımın başından ölçülen bir mesafe aralığı [from, to] olarak saklanır.
+ * Düşman bir adım üzerinde düz çizgide ilerlediği için "menzilde mi?" sorusu, düşmanın adımının
+ * kapsamda olup olmadığına ve adım üzerindeki ilerlemesinin aralığa düşüp düşmediğine indirgenir.
+ *
+ * Kapsam yalnızca kule yerleştirilince, taşınınca ya da menzili değişince hesaplanır (Tower.getCoverage);
+ * her tick'te geometri yapılmaz. Hesaplandığı daireyi saklar (isFor), böylece kule hangi thread'den
+ * taşınırsa taşınsın eskimiş kapsam kullanılmaz. Nesne değişmezdir; thread'ler arasında paylaşılabilir.
+ */
+public final class PathCoverage {
+
+    // Kenardaki düşmanlar kayan nokta hatası yüzünden kaçmasın; kesin kontrolü kule yapar
+    private static final double EDGE_TOLERANCE = 0.5;
+
+    private final Map map;              // Hesaplandığı harita ve daire
+    private final double cx, cy, radius;
+    private final int[] steps;          // Adım kimlikleri, artan sırada
+    private final double[] from, to;    // Adım başından ölçülen menzil içi aralık (piksel)
+    private final double[] pieces;      // Çizim için uç noktalar: x0, y0, x1, y1 (aralık başına)
+
+    private PathCoverage(Map map, double cx, double cy, double radius,
+                         int[] steps, double[] from, double[] to, double[] pieces) {
+        this.map = map;
+        this.cx = cx;
+        this.cy = cy;
+        this.radius = radius;
+        this.steps = steps;
+        this.from = from;
+        this.to = to;
+        this.pieces = pieces;
+    }
+
+    /**
+     * Verilen dairenin yol ağıyla kesişimini hesaplar. Yalnızca dairenin çevresindeki hücrelere bakılır.
+     *
+     * @param map    Harita (hücre geometrisi ve yol ağı)
+     * @param cx     Daire merkezi X (kule merkezi)
+     * @param cy     Daire merkezi Y
+     * @param radius Menzil
+     */
+    public static PathCoverage compute(Map map, double cx, double cy, double radius) {
+        PathNetwork network = map.getPathNetwork();
+        if (network == null || radius <= 0) {
+            return new PathCoverage(map, cx, cy, radius, new int[0], new double[0], new double[0], new double[0]);
+        }
+
+        // Menzile değen her adımın başlangıç hücresi merkezden en fazla radius + pitch uzaktadır
+        double pitch = map.getTileSize() + map.getGridSpacing();
+        double reach = radius + pitch;
+        int minCol = Math.max(0, (int) Math.floor((cx - reach) / pitch));
+        int maxCol = Math.min(map.getWidth() - 1, (int) Math.floor((cx + reach) / pitch));
+        int minRow = Math.max(0, (int) Math.floor((cy - reach) / pitch));
+        int maxRow = Math.min(map.getHeight() - 1, (int) Math.floor((cy + reach) / pitch));
+
+        int count = 0;
+        int[] steps = new int[16];
+        double[] from = new double[16];
+        double[] to = new double[16];
+        double[] pieces = new double[64];
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int cell = row * map.getWidth() + col;
+                for (int i = 0; i < network.stepCount(cell); i++) {
+                    int step = network.stepId(cell, i);
+                    int next = network.stepTarget(step);
+
+                    double x0 = map.cellCenterX(col);
+                    double y0 = map.cellCenterY(row);
+                    double x1 = map.cellCenterX(map.cellCol(next));
+                    double y1 = map.cellCenterY(map.cellRow(next));
+                    double length = Math.hypot(x1 - x0, y1 - y0);
+                    if (length == 0) continue;
+
+                    // |P0 + u·s - C| = r  →  s² + 2bs + c = 0
+                    double ux = (x1 - x0) / length;
+                    double uy = (y1 - y0) / length;
+                    double fx = x0 - cx;
+                    double fy = y0 - cy;
+                    double b = fx * ux + fy * uy;
+                    double c = fx * fx + fy * fy - radius * radius;
+                    double disc = b * b - c;
+                    if (disc < 0) continue;
+
+                    double root = Math.sqrt(disc);
+                    double s0 = Math.max(0, -b - root);
+                    double s1 = Math.min(length, -b + root);
+                    if (s0 > s1) continue;
+
+                    if (count == steps.length) {
+                        steps = Arrays.copyOf(steps, count * 2);
+                        from = Arrays.copyOf(from, count * 2);
+                        to = Arrays.copyOf(to, count * 2);
+                        pieces = Arrays.copyOf(pieces, count * 8);
+                    }
+                    steps[count] = step;
+                    from[count] = s0 - EDGE_TOLERANCE;
+                    to[count] = s1 + EDGE_TOLERANCE;
+                    pieces[count * 4] = x0 + ux * s0;
+                    pieces[count * 4 + 1] = y0 + uy * s0;
+                    pieces[count * 4 + 2] = x0 + ux * s1;
+                    pieces[count * 4 + 3] = y0 + uy * s1;
+                    count++;
+                }
+            }
+        }
+
+        // Hücreler satır sırasıyla gezildiği ve kimlikler hücre sırasıyla verildiği için adımlar zaten sıralı
+        return new PathCoverage(map, cx, cy, radius, Arrays.copyOf(steps, count), Arrays.copyOf(from, count),
+                Arrays.copyOf(to, count), Arrays.copyOf(pieces, count * 4));
+    }
+
+    /**
+     * Bu kapsam verilen harita ve daire için mi hesaplandı?
+     */
+    public boolean isFor(Map map, double cx, double cy, double radius) {
+        return this.map == map && this.cx == cx && this.cy == cy && this.radius == radius;
+    }
+
+    /**
+     * Kapsanan adım (aralık) sayısı.
+     */
+    public int size() {
+        return steps.length;
+    }
+
+    /**
+     * i. aralığın adım kimliği.
+     */
+    public int getStep(int i) {
+        return steps[i];
+    }
+
+    /**
+     * i. aralığın adım başından uzaklıkla başlangıcı (piksel).
+     */
+    public double getFrom(int i) {
+        return from[i];
+    }
+
+    /**
+     * i. aralığın adım başından uzaklıkla sonu (piksel).
+     */
+    public double getTo(int i) {
+        return to[i];
+    }
+
+    /**
+     * i. aralığın overlay'deki uç noktaları: {x0, y0, x1, y1}.
+     */
+    public double[] getPiece(int i) {
+        return Arrays.copyOfRange(pieces, i * 4, i * 4 + 4);
+    }
+
+    /**
+     * Menzil içinde kalan toplam yol uzunluğu (piksel). Çatallı yollarda her kol ayrı sayılır.
+     */
+    public double getCoveredLength() {
+        double total = 0;
+        for (int i = 0; i < steps.length; i++) {
+            total += Math.hypot(pieces[i * 4 + 2] - pieces[i * 4], pieces[i * 4 + 3] - pieces[i * 4 + 1]);
+        }
+        return total;
+    }
+}
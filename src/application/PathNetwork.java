@@ -0,0 +1,252 @@
+package application;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * PathNetwork sınıfı, haritadaki yol ağını (çatallanan/birleşen şeritler dahil) temsil eder.
+ * Yükleme anında her yol hücresi için çıkışa olan BFS mesafesi ve
+ * çıkışa yaklaştıran komşu hücreler bir kez hesaplanır:
+ * - Düşman bir sonraki adımını O(1) seçer.
+ * - Kuleler hedefleri kalan mesafeye göre sıralayabilir.
+ * - Her yönlü adıma (hücre → sonraki hücre) sabit bir kimlik verilir (0 .. getStepCount() - 1);
+ *   kule menzil kapsamı (PathCoverage) ve düşman dizini (EnemyIndex) bu kimlikleri kullanır.
+ *
+ * Hücreler her yerde row * width + col olarak paketlenir.
+ */
+public class PathNetwork {
+
+    public static final int UNREACHABLE = -1;
+
+    private final int width;
+    private final int height;
+    private final int[] spawns;         // Düşmanların çıktığı hücreler
+    private final int[] exits;          // Krala ulaşılan hücreler
+    private final boolean[] isExit;
+    private final int[] distance;       // Çıkışa kalan adım sayısı (yol dışı / ulaşılamaz → -1)
+
+    // Her hücrenin çıkışa yaklaştıran komşuları (CSR düzeni: nextStart[c] .. nextStart[c + 1])
+    private final int[] nextStart;
+    private final int[] nextCells;
+
+    private final Random random;
+
+    /**
+     * Sıralı tek yol (eski level formatı) için ağ oluşturur.
+     * İlk hücre spawn, son hücre çıkıştır; mesafeler dosyadaki sıradan alınır.
+     * Böylece kendine değen yollar BFS ile kısaltılmaz.
+     */
+    public static PathNetwork fromOrderedPath(int width, int height, int[] path, long seed) {
+        int cells = width * height;
+        int[] distance = new int[cells];
+        Arrays.fill(distance, UNREACHABLE);
+
+        int[] nextStart = new int[cells + 1];
+        int[] nextOf = new int[cells];
+        Arrays.fill(nextOf, -1);
+
+        for (int i = 0; i < path.length; i++) {
+            distance[path[i]] = path.length - 1 - i;
+            if (i + 1 < path.length) nextOf[path[i]] = path[i + 1];
+        }
+
+        int count = 0;
+        int[] nextCells = new int[Math.max(0, path.length - 1)];
+        for (int c = 0; c < cells; c++) {
+            nextStart[c] = count;
+            if (nextOf[c] >= 0) nextCells[count++] = nextOf[c];
+        }
+        nextStart[cells] = count;
+
+        int[] spawns = path.length > 0 ? new int[]{path[0]} : new int[0];
+        int[] exits = path.length > 0 ? new int[]{path[path.length - 1]} : new int[0];
+        return new PathNetwork(width, height, spawns, exits, distance, nextStart, nextCells, seed);
+    }
+
+    /**
+     * Çatallı/birleşen yol ağı için çıkışlardan çok kaynaklı BFS ile mesafe alanını hesaplar.
+     * Maliyet O(W·H); 200x200 haritada bile birkaç milisaniyedir.
+     *
+     * @param pathMask Yol hücresi maskesi (row * width + col)
+     * @param spawns   Spawn hücreleri
+     * @param exits    Çıkış hücreleri
+     */
+    public static PathNetwork fromNetwork(int width, int height, BitSet pathMask,
+                                          int[] spawns, int[] exits, long seed) {
+        int cells = width * height;
+        int[] distance = new int[cells];
+        Arrays.fill(distance, UNREACHABLE);
+
+        // Çok kaynaklı BFS (kuyruk olarak düz int dizisi)
+        int[] queue = new int[cells];
+        int head = 0, tail = 0;
+        for (int exit : exits) {
+            if (distance[exit] == UNREACHABLE) {
+                distance[exit] = 0;
+                queue[tail++] = exit;
+            }
+        }
+
+        while (head < tail) {
+            int cell = queue[head++];
+            int row = cell / width;
+            int col = cell % width;
+            int d = distance[cell] + 1;
+
+            if (row > 0) tail = visit(cell - width, d, pathMask, distance, queue, tail);
+            if (row < height - 1) tail = visit(cell + width, d, pathMask, distance, queue, tail);
+            if (col > 0) tail = visit(cell - 1, d, pathMask, distance, queue, tail);
+            if (col < width - 1) tail = visit(cell + 1, d, pathMask, distance, queue, tail);
+        }
+
+        // Her hücre için mesafesi bir eksik olan komşular → olası sonraki adımlar
+        int[] nextStart = new int[cells + 1];
+        int[] nextCells = new int[cells * 2];
+        int count = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            nextStart[cell] = count;
+            int d = distance[cell];
+            if (d <= 0) continue;
+
+            int row = cell / width;
+            int col = cell % width;
+            if (count + 4 > nextCells.length) {
+                nextCells = Arrays.copyOf(nextCells, nextCells.length * 2);
+            }
+            if (row > 0 && distance[cell - width] == d - 1) nextCells[count++] = cell - width;
+            if (row < height - 1 && distance[cell + width] == d - 1) nextCells[count++] = cell + width;
+            if (col > 0 && distance[cell - 1] == d - 1) nextCells[count++] = cell - 1;
+            if (col < width - 1 && distance[cell + 1] == d - 1) nextCells[count++] = cell + 1;
+        }
+        nextStart[cells] = count;
+
+        return new PathNetwork(width, height, spawns, exits, distance, nextStart,
+                Arrays.copyOf(nextCells, count), seed);
+    }
+
+    private static int visit(int cell, int d, BitSet pathMask, int[] distance, int[] queue, int tail) {
+        if (!pathMask.get(cell) || distance[cell] != UNREACHABLE) return tail;
+        distance[cell] = d;
+        queue[tail] = cell;
+        return tail + 1;
+    }
+
+    private PathNetwork(int width, int height, int[] spawns, int[] exits, int[] distance,
+                        int[] nextStart, int[] nextCells, long seed) {
+        this.width = width;
+        this.height = height;
+        this.spawns = spawns;
+        this.exits = exits;
+        this.distance = distance;
+        this.nextStart = nextStart;
+        this.nextCells = nextCells;
+        this.random = new Random(seed);
+
+        this.isExit = new boolean[width * height];
+        for (int exit : exits) isExit[exit] = true;
+    }
+
+    // --- Sorgular ---
+
+    /**
+     * Hücreden çıkışa kalan adım sayısı (ulaşılamıyorsa -1).
+     */
+    public int distanceToExit(int cell) {
+        return distance[cell];
+    }
+
+    /**
+     * Hücre bir çıkış mı?
+     */
+    public boolean isExit(int cell) {
+        return isExit[cell];
+    }
+
+    /**
+     * Çıkışa bir adım yaklaştıran komşu hücreyi O(1) seçer.
+     * Çatal noktalarında seçenekler arasından rastgele biri alınır.
+     *
+     * @return Sonraki hücre veya (çıkış / çıkmaz) -1
+     */
+    public int nextStep(int cell) {
+        int start = nextStart[cell];
+        int count = nextStart[cell + 1] - start;
+        if (count == 0) return -1;
+        if (count == 1) return nextCells[start];
+        return nextCells[start + random.nextInt(count)];
+    }
+
+    /**
+     * nextStep() gibi sonraki hücreyi verir ama rastgele sayı tüketmez: çatal noktalarında ilk seçenek döner.
+     * Konum tahmini (öngörülü nişan) içindir; düşmanın gerçek yolunu etkilemez.
+     *
+     * @return Sonraki hücre veya (çıkış / çıkmaz) -1
+     */
+    public int peekStep(int cell) {
+        int start = nextStart[cell];
+        return nextStart[cell + 1] == start ? -1 : nextCells[start];
+    }
+
+    /**
+     * Hücreden çıkan (çıkışa yaklaştıran) adım sayısı.
+     */
+    public int stepCount(int cell) {
+        return nextStart[cell + 1] - nextStart[cell];
+    }
+
+    /**
+     * Hücrenin i. çıkan adımının kimliği.
+     */
+    public int stepId(int cell, int i) {
+        return nextStart[cell] + i;
+    }
+
+    /**
+     * Adımın vardığı hücre.
+     */
+    public int stepTarget(int stepId) {
+        return nextCells[stepId];
+    }
+
+    /**
+     * fromCell → toCell adımının kimliği; böyle bir adım yoksa -1.
+     */
+    public int findStep(int fromCell, int toCell) {
+        if (fromCell < 0 || toCell < 0) return -1;
+
+        for (int step = nextStart[fromCell]; step < nextStart[fromCell + 1]; step++) {
+            if (nextCells[step] == toCell) return step;
+        }
+        return -1;
+    }
+
+    /**
+     * Ağdaki toplam yönlü adım sayısı.
+     */
+    public int getStepCount() {
+        return nextCells.length;
+    }
+
+    /**
+     * Spawn hücreleri. Dizi değiştirilmemelidir.
+     */
+    public int[] getSpawns() {
+        return spawns;
+    }
+
+    /**
+     * Çıkış hücreleri. Dizi değiştirilmemelidir.
+     */
+    public int[] getExits() {
+        return exits;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
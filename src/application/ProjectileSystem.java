@@ -0,0 +1,46 @@
+package application;
+
+import towers.Projectile;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProjectileSystem, havadaki tüm mermi ve füzeleri simülasyon saatiyle ilerletir.
+ * Eskiden her mermi kendi 16 ms'lik Timeline'ına sahipti; artık hepsi tick başına tek döngüde güncellenir.
+ * Liste simülasyon thread'ine aittir.
+ */
+public class ProjectileSystem {
+
+    private static final List<Projectile> projectiles = new ArrayList<>();
+
+    /**
+     * Yeni bir mermi ekler (kuleler ateş ederken çağırır).
+     */
+    public static void spawn(Projectile projectile) {
+        projectiles.add(projectile);
+    }
+
+    /**
+     * Tüm mermileri ilerletir; isabet eden veya menzil dışına çıkanları kaldırır.
+     *
+     * @param dt Geçen süre (saniye)
+     */
+    public static void update(double dt) {
+        projectiles.removeIf(p -> p.update(dt));
+    }
+
+    /**
+     * Havadaki mermiler (render snapshot'ı için).
+     */
+    public static List<Projectile> getProjectiles() {
+        return projectiles;
+    }
+
+    /**
+     * Tüm mermileri siler. Simülasyon durduktan sonra çağrılmalıdır.
+     */
+    public static void clear() {
+        projectiles.clear();
+    }
+}
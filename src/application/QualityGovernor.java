@@ -0,0 +1,131 @@
+package application;
+
+import java.util.Locale;
+
+/**
+ * QualityGovernor, frame süresini izleyerek görsel efekt kalitesini otomatik ayarlar.
+ * - Kareler bütçeyi sürekli aşarsa kalite bir kademe düşer: daha az patlama parçacığı,
+ *   bulanıklık yok, lazer kesikli çizgisi daha seyrek güncellenir, lazer ölümlerindeki ek ölüm
+ *   animasyonu atlanır.
+ * - Uzun süre pay kalırsa kalite bir kademe geri çıkar.
+ * Düşme ve çıkma eşikleri ile bekleme süreleri farklıdır (histerezis); kalite iki kademe arasında gidip gelmez.
+ *
+ * Bütçe sabit 60 fps değildir, ölçülen pulse aralığından çıkarılır: ortalama kare süresinin görülen en düşük
+ * değeri ekranın yenileme aralığıdır (50 Hz'de 20 ms, 30 Hz'de 33 ms). Ekran değişip aralık uzarsa bütçe
+ * BUDGET_RELAX saniyede yeni aralığa yaklaşır; bu, kısa aşımların fark edilmesini engellemeyecek kadar yavaştır.
+ * Oyun mantığı bundan etkilenmez, yalnızca kozmetik efektler değişir.
+ *
+ * "slimedefense.quality=high|medium|low" ile kalite sabitlenebilir (varsayılan: otomatik).
+ * Yalnızca JavaFX thread'inde kullanılır.
+ */
+final class QualityGovernor {
+
+    /**
+     * Efekt kalite kademeleri (yüksekten düşüğe).
+     */
+    enum Quality {
+        HIGH(20, true, 1, true),
+        MEDIUM(10, false, 2, true),
+        LOW(4, false, 6, false);
+
+        final int particles;            // Patlama başına parçacık
+        final boolean blur;             // Parçacıklarda GaussianBlur
+        final int dashInterval;         // Lazer kesikli çizgisi kaç pulse'ta bir güncellenir
+        final boolean cosmeticDeaths;   // Lazer ölümlerinde ışın ucundaki ek ölüm animasyonu
+
+        Quality(int particles, boolean blur, int dashInterval, boolean cosmeticDeaths) {
+            this.particles = particles;
+            this.blur = blur;
+            this.dashInterval = dashInterval;
+            this.cosmeticDeaths = cosmeticDeaths;
+        }
+    }
+
+    private static final double DEFAULT_BUDGET = 1.0 / 60;     // İlk ölçümler gelene kadar kare bütçesi (saniye)
+    private static final double FRAME_OVER = 1.25;             // Ortalama kare bütçenin bu katından uzunsa aşım
+    private static final double FRAME_UNDER = 1.08;            // Bundan kısaysa pay var
+    private static final double WORK_OVER = 0.5;               // Pulse işi karenin yarısını geçiyorsa aşım
+    private static final double WORK_UNDER = 0.2;
+    private static final double SMOOTHING = 0.1;               // Üstel ortalama katsayısı
+    private static final double STEP_DOWN_AFTER = 0.5;         // Bu kadar saniye kesintisiz aşımda kalite düşer
+    private static final double STEP_UP_AFTER = 3.0;           // Bu kadar saniye kesintisiz payda kalite çıkar
+    private static final double MAX_SAMPLE = 0.25;             // Uzun takılmalar ortalamayı bozmasın
+    private static final int WARMUP_PULSES = 30;               // Bütçe ölçülmeden karar verilmez
+    private static final double BUDGET_RELAX = 20;             // Bütçenin daha uzun aralığa yaklaşma süresi (sn)
+
+    private static final Quality pinned = pinnedQuality();
+    private static Quality quality = pinned != null ? pinned : Quality.HIGH;
+
+    private static double budget = DEFAULT_BUDGET;             // Ölçülen yenileme aralığı (saniye)
+    private static int samples;
+    private static double avgFrame;
+    private static double avgWork;
+    private static double overFor, underFor;
+
+    private QualityGovernor() {
+    }
+
+    /**
+     * Bir pulse'ın ölçümlerini kaydeder ve gerekirse kaliteyi bir kademe değiştirir.
+     *
+     * @param frameSeconds Bir önceki pulse'tan bu yana geçen gerçek süre (çizim dahil)
+     * @param workSeconds  Bu pulse'ta GameLoop'un harcadığı süre
+     */
+    static void record(double frameSeconds, double workSeconds) {
+        if (pinned != null || frameSeconds <= 0) return;
+
+        frameSeconds = Math.min(frameSeconds, MAX_SAMPLE);
+        if (samples == 0) avgFrame = frameSeconds;
+        avgFrame += (frameSeconds - avgFrame) * SMOOTHING;
+        avgWork += (workSeconds - avgWork) * SMOOTHING;
+        samples++;
+
+        // Bütçe: ortalama karenin en düşük değeri; daha uzun aralığa yalnızca yavaşça kayar
+        if (samples == WARMUP_PULSES || avgFrame < budget) {
+            budget = avgFrame;
+        } else {
+            budget += (avgFrame - budget) * Math.min(1, frameSeconds / BUDGET_RELAX);
+        }
+        if (samples < WARMUP_PULSES) return;
+
+        boolean over = avgFrame > budget * FRAME_OVER || avgWork > budget * WORK_OVER;
+        boolean headroom = avgFrame < budget * FRAME_UNDER && avgWork < budget * WORK_UNDER;
+        overFor = over ? overFor + frameSeconds : 0;
+        underFor = headroom ? underFor + frameSeconds : 0;
+
+        Quality[] levels = Quality.values();
+        if (overFor >= STEP_DOWN_AFTER && quality.ordinal() < levels.length - 1) {
+            change(levels[quality.ordinal() + 1]);
+        } else if (underFor >= STEP_UP_AFTER && quality.ordinal() > 0) {
+            change(levels[quality.ordinal() - 1]);
+        }
+    }
+
+    private static void change(Quality next) {
+        quality = next;
+
+        // Yeni kademenin etkisi ölçülsün diye sayaçlar ve kare ortalaması sıfırlanır
+        overFor = 0;
+        underFor = 0;
+        avgFrame = budget;
+    }
+
+    /**
+     * Geçerli efekt kalitesi.
+     */
+    static Quality get() {
+        return quality;
+    }
+
+    private static Quality pinnedQuality() {
+        String configured = System.getProperty("slimedefense.quality");
+        if (configured == null || configured.isBlank() || configured.equalsIgnoreCase("auto")) return null;
+
+        try {
+            return Quality.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Geçersiz kalite ayarı: " + configured);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package application;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * RenderLayers, oyun alanının üst katmanını (overlay) sabit sıralı alt katmanlara böler:
+ * zemin (menzil çemberleri), kuleler, düşmanlar, mermiler, efektler (ışın, parçacık, ölüm görseli) ve arayüz.
+ * - Çizim sırası katman sırasıyla belirlenir; toFront() ile liste içinde düğüm taşımaya gerek kalmaz.
+ * - Her katmanın çocuk listesi yalnızca kendi türündeki düğümleri içerir; ekleme/çıkarma taramaları kısa kalır.
+ * - Sık gelip giden görseller (düşman, mermi, ışın, parçacık) listeden çıkarılmaz; park edilir (gizlenir)
+ *   ve aynı yuvada yeniden gösterilir. Böylece her pulse'ta ObservableList üzerinde doğrusal arama yapılmaz.
+ *
+ * Eklenen ve yeniden gösterilen düğümler LeakDetector'a bildirilir (açıksa).
+ * Yalnızca JavaFX thread'inde kullanılır.
+ */
+public final class RenderLayers {
+
+    /**
+     * Katmanlar, alttan üste çizim sırasıyla.
+     */
+    public enum Layer {
+        GROUND, TOWERS, ENEMIES, PROJECTILES, EFFECTS, UI
+    }
+
+    private static final String PARKED = "parked";  // Park edilmiş yuva işareti (düğüm özelliklerinde)
+
+    private final Pane root = new Pane();
+    private final Pane[] panes = new Pane[Layer.values().length];
+
+    public RenderLayers() {
+        root.setPickOnBounds(false);    // Overlay'de tıklanabilir boşluklar olacak
+        for (Layer layer : Layer.values()) {
+            Pane pane = new Pane();
+            pane.setPickOnBounds(false);
+            panes[layer.ordinal()] = pane;
+        }
+        root.getChildren().addAll(panes);
+    }
+
+    /**
+     * Tüm katmanları içeren overlay düğümü (sahneye eklenen, koordinat dönüşümlerinde kullanılan).
+     */
+    public Pane getRoot() {
+        return root;
+    }
+
+    /**
+     * Verilen katmanın Pane'i.
+     */
+    public Pane pane(Layer layer) {
+        return panes[layer.ordinal()];
+    }
+
+    /**
+     * Alttan üste tüm katman Pane'leri.
+     */
+    List<Pane> panes() {
+        return List.of(panes);
+    }
+
+    /**
+     * Düğümü katmanın en üstüne ekler (nadiren değişen görseller: kule, menzil çemberi, buton).
+     */
+    public void add(Layer layer, Node node) {
+        add(layer, node, null);
+    }
+
+    /**
+     * Düğümü katmanın en üstüne ekler; sahibi öldüğünde LeakDetector düğümün kaldırılmasını bekler.
+     */
+    public void add(Layer layer, Node node, Object owner) {
+        pane(layer).getChildren().add(node);
+        LeakDetector.track(node, owner);
+    }
+
+    /**
+     * Düğümü bulunduğu katmandan çıkarır. Tarama yalnızca o katmanın listesindedir.
+     */
+    public void remove(Node node) {
+        if (owns(node)) ((Pane) node.getParent()).getChildren().remove(node);
+    }
+
+    /**
+     * Birden fazla düğümü katmandan tek geçişte çıkarır.
+     */
+    public void removeAll(Layer layer, Collection<? extends Node> nodes) {
+        if (nodes.isEmpty()) return;
+
+        // removeAll her çocuk için contains() çağırır; küme ile toplam iş katman boyutunda kalır
+        Set<? extends Node> set = nodes instanceof Set<? extends Node> s ? s : new HashSet<>(nodes);
+        pane(layer).getChildren().removeAll(set);
+    }
+
+    /**
+     * Yeniden kullanılan bir görseli gösterir: park edilmişse yuvasında açılır,
+     * bu katmanda değilse (yeni ya da önceki seviyeden kalma) eklenir.
+     */
+    public void show(Layer layer, Node node) {
+        show(layer, node, null);
+    }
+
+    /**
+     * show() ile aynı; sahibi öldüğünde LeakDetector görselin park edilmesini bekler.
+     */
+    public void show(Layer layer, Node node, Object owner) {
+        if (node.hasProperties()) node.getProperties().remove(PARKED);
+        node.setVisible(true);
+
+        Pane pane = pane(layer);
+        if (node.getParent() != pane) pane.getChildren().add(node);
+        LeakDetector.track(node, owner);
+    }
+
+    /**
+     * Görseli listeden çıkarmadan gizler; yuvası bir sonraki show() için ayrılır.
+     */
+    public static void park(Node node) {
+        node.setVisible(false);
+        node.getProperties().put(PARKED, Boolean.TRUE);
+    }
+
+    /**
+     * Düğüm park edilmiş (boş) bir yuva mı?
+     */
+    static boolean isParked(Node node) {
+        return node.hasProperties() && node.getProperties().containsKey(PARKED);
+    }
+
+    /**
+     * Düğüm bu overlay'in katmanlarından birinde mi?
+     */
+    boolean owns(Node node) {
+        Parent parent = node.getParent();
+        return parent != null && parent.getParent() == root;
+    }
+}
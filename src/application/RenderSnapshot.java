@@ -0,0 +1,148 @@
+package application;
+
+import character.EnemyType;
+import character.SlimeEnemy;
+import towers.LaserTower;
+import towers.Projectile;
+import towers.Tower;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * RenderSnapshot, simülasyonun bir tick sonundaki çizilebilir durumunun kopyasıdır:
+ * düşman konumları ve canları, mermiler, lazer ışınları ve kule namlu açıları.
+ *
+ * Simülasyon thread'i capture() ile doldurur ve TripleBuffer üzerinden yayınlar; yayınlandıktan sonra
+ * JavaFX thread'i yalnızca okur. Diziler yeniden kullanılır, her tick'te yeni nesne oluşturulmaz.
+ */
+final class RenderSnapshot {
+
+    long tick;
+    long capturedAt;        // System.nanoTime(); render enterpolasyonu için
+
+    // --- Düşmanlar ---
+    int enemyCount;
+    int[] enemyIds = new int[64];
+    EnemyType[] enemyTypes = new EnemyType[64];
+    double[] enemyX = new double[64];
+    double[] enemyY = new double[64];
+    double[] enemyHealth = new double[64];
+
+    // --- Mermiler ---
+    int projectileCount;
+    int[] projectileIds = new int[64];
+    Projectile.Kind[] projectileKinds = new Projectile.Kind[64];
+    double[] projectileX = new double[64];
+    double[] projectileY = new double[64];
+
+    // --- Lazer ışınları ---
+    int beamCount;
+    double[] beamX1 = new double[16];
+    double[] beamY1 = new double[16];
+    double[] beamX2 = new double[16];
+    double[] beamY2 = new double[16];
+    int[] beamLevels = new int[16];
+    int[] beamTargetIds = new int[16];      // Işın ucu bu düşmanın enterpole edilmiş konumuna çizilir
+
+    // --- Kuleler ---
+    int towerCount;
+    Tower[] towers = new Tower[16];
+    double[] towerAim = new double[16];
+
+    /**
+     * Simülasyonun güncel durumunu bu snapshot'a kopyalar. Simülasyon thread'inde çağrılır.
+     *
+     * @param tick Bu snapshot'ı üreten tick numarası
+     */
+    void capture(long tick) {
+        this.tick = tick;
+        this.capturedAt = System.nanoTime();
+
+        List<SlimeEnemy> enemies = EnemyManager.getEnemies();
+        ensureEnemyCapacity(enemies.size());
+        enemyCount = 0;
+        for (SlimeEnemy e : enemies) {
+            if (e.isDead()) continue;   // Ölüm animasyonu render tarafında ayrıca oynatılır
+            int i = enemyCount++;
+            enemyIds[i] = e.getId();
+            enemyTypes[i] = e.getType();
+            enemyX[i] = e.getX();
+            enemyY[i] = e.getY();
+            enemyHealth[i] = e.getHealthFraction();
+        }
+
+        List<Projectile> projectiles = ProjectileSystem.getProjectiles();
+        ensureProjectileCapacity(projectiles.size());
+        projectileCount = 0;
+        for (Projectile p : projectiles) {
+            int i = projectileCount++;
+            projectileIds[i] = p.getId();
+            projectileKinds[i] = p.getKind();
+            projectileX[i] = p.getX();
+            projectileY[i] = p.getY();
+        }
+
+        List<Tower> towerList = TowerManager.getTowers();
+        if (towers.length < towerList.size()) {
+            int size = Math.max(towerList.size(), towers.length * 2);
+            towers = Arrays.copyOf(towers, size);
+            towerAim = Arrays.copyOf(towerAim, size);
+        }
+        // Önceki snapshot'tan kalan kule referansları bırakılır (satılan kuleler tutulmasın)
+        Arrays.fill(towers, towerList.size(), towers.length, null);
+
+        towerCount = 0;
+        beamCount = 0;
+        for (Tower tower : towerList) {
+            int i = towerCount++;
+            towers[i] = tower;
+            towerAim[i] = tower.getAimAngle();
+
+            if (tower instanceof LaserTower laser && laser.isPlaced()) {
+                for (int b = 0; b < laser.getBeamCount(); b++) {
+                    addBeam(laser.getX(), laser.getY(), laser.getBeamEndX(b), laser.getBeamEndY(b),
+                            laser.getLevel(), laser.getBeamTargetId(b));
+                }
+            }
+        }
+    }
+
+    private void addBeam(double x1, double y1, double x2, double y2, int level, int targetId) {
+        if (beamCount == beamX1.length) {
+            int size = beamX1.length * 2;
+            beamX1 = Arrays.copyOf(beamX1, size);
+            beamY1 = Arrays.copyOf(beamY1, size);
+            beamX2 = Arrays.copyOf(beamX2, size);
+            beamY2 = Arrays.copyOf(beamY2, size);
+            beamLevels = Arrays.copyOf(beamLevels, size);
+            beamTargetIds = Arrays.copyOf(beamTargetIds, size);
+        }
+        int i = beamCount++;
+        beamX1[i] = x1;
+        beamY1[i] = y1;
+        beamX2[i] = x2;
+        beamY2[i] = y2;
+        beamLevels[i] = level;
+        beamTargetIds[i] = targetId;
+    }
+
+    private void ensureEnemyCapacity(int needed) {
+        if (enemyIds.length >= needed) return;
+        int size = Math.max(needed, enemyIds.length * 2);
+        enemyIds = Arrays.copyOf(enemyIds, size);
+        enemyTypes = Arrays.copyOf(enemyTypes, size);
+        enemyX = Arrays.copyOf(enemyX, size);
+        enemyY = Arrays.copyOf(enemyY, size);
+        enemyHealth = Arrays.copyOf(enemyHealth, size);
+    }
+
+    private void ensureProjectileCapacity(int needed) {
+        if (projectileIds.length >= needed) return;
+        int size = Math.max(needed, projectileIds.length * 2);
+        projectileIds = Arrays.copyOf(projectileIds, size);
+        projectileKinds = Arrays.copyOf(projectileKinds, size);
+        projectileX = Arrays.copyOf(projectileX, size);
+        projectileY = Arrays.copyOf(projectileY, size);
+    }
+}
@@ -0,0 +1,248 @@
+package application;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Simulation, oyun mantığını JavaFX thread'inden ayrı, sabit adımlı bir thread'de çalıştırır.
+ * Bir tick şu aşamalardan oluşur:
+ * 1) Oyuncu komutları (kule yerleştirme, taşıma, satma, yükseltme) uygulanır.
+ * 2) Dalgalar ilerler, düşmanlar yol ağı üzerinde hareket eder.
+ * 3) Kuleler hedef seçer, mermiler ilerler; isabetler DamageSystem'e yazılır.
+ * 4) DamageSystem biriken hasarı tek seferde çözer.
+ * Tick sonunda çizilebilir durum bir RenderSnapshot'a kopyalanıp kilitsiz üçlü tampon üzerinden yayınlanır.
+ *
+ * Thread'ler arası iletişim üç kanaldan yapılır:
+ * - submit(): JavaFX → simülasyon (oyuncu komutları, bir sonraki tick başında çalışır)
+ * - post(): simülasyon → JavaFX (ses, efekt, ölüm animasyonu gibi tek seferlik olaylar; GameLoop boşaltır)
+ * - readSnapshot(): JavaFX'in her pulse'ta okuduğu en yeni durum
+ *
+ * Bir tick ne kadar uzun sürerse sürsün JavaFX thread'i beklemez; sadece daha eski bir snapshot çizer.
+ *
+ * Tick hızı "slimedefense.simRate" sistem özelliğiyle ayarlanabilir (varsayılan 60 Hz). Zayıf makinelerde
+ * 30 Hz yeterlidir; WorldRenderer konumları iki snapshot arasında enterpole ettiği için hareket akıcı kalır.
+ *
+ * Sahnede düşman ve mermi yokken (dalga araları) boşta moduna geçilir: thread bir sonraki dalga olayına
+ * ya da en fazla IDLE_STEP süresine kadar uyur, geçen süreyi tek adımda işler. Oyuncu komutu gelirse
+ * (submit) hemen uyanır.
+ */
+public class Simulation {
+
+    private static final int DEFAULT_RATE = 60;
+    private static final int MIN_RATE = 10;
+    private static final int MAX_RATE = 240;
+
+    static final int RATE = configuredRate();                   // Saniyedeki tick sayısı
+    static final double STEP = 1.0 / RATE;                      // Sabit tick süresi (saniye)
+    static final long STEP_NANOS = Math.round(STEP * 1_000_000_000L);
+    private static final int MAX_CATCH_UP = 5;                  // Geride kalınca art arda en fazla bu kadar tick
+    private static final double IDLE_STEP = 0.25;               // Boşta modunda en uzun uyku (saniye)
+
+    private static final ConcurrentLinkedQueue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private static final ConcurrentLinkedQueue<Runnable> fxEvents = new ConcurrentLinkedQueue<>();
+
+    private static volatile TripleBuffer<RenderSnapshot> snapshots = new TripleBuffer<>(RenderSnapshot::new);
+    private static volatile boolean running;
+    private static Thread thread;
+    private static WaveManager waveManager;
+    private static long tick;                                   // Yalnızca simülasyon thread'i
+    private static volatile long idleNanos;                     // Boşta modunda uyunan toplam süre
+
+    /**
+     * Simülasyon thread'ini başlatır. JavaFX thread'inde, seviye kurulduktan sonra çağrılır.
+     *
+     * @param waves Bu seviyenin dalga yöneticisi
+     */
+    public static void start(WaveManager waves) {
+        stop();
+
+        waveManager = waves;
+        tick = 0;
+        snapshots = new TripleBuffer<>(RenderSnapshot::new);   // Önceki seviyenin snapshot'ları okunmasın
+        running = true;
+
+        thread = new Thread(Simulation::run, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Simülasyonu durdurur ve thread bitene kadar bekler; bekleyen komut ve olaylar atılır.
+     * Dönüşten sonra düşman, kule ve mermi listelerine JavaFX thread'inden güvenle dokunulabilir.
+     */
+    public static void stop() {
+        running = false;
+
+        Thread current = thread;
+        if (current != null && current != Thread.currentThread()) {
+            LockSupport.unpark(current);
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+
+        commands.clear();
+        fxEvents.clear();
+    }
+
+    /**
+     * Oyuncu komutunu simülasyon thread'ine gönderir; bir sonraki tick başında çalışır.
+     * Simülasyon çalışmıyorsa komut atılır.
+     */
+    public static void submit(Runnable command) {
+        if (!running) return;
+
+        commands.add(command);
+        Thread current = thread;
+        if (current != null) LockSupport.unpark(current);   // Boşta uyuyorsa hemen uyansın
+    }
+
+    /**
+     * JavaFX thread'inde bir sonraki pulse'ta çalışacak bir olay ekler (simülasyon thread'inden).
+     * Render döngüsü uykudaysa uyandırılır.
+     */
+    public static void post(Runnable event) {
+        fxEvents.add(event);
+        GameLoop.requestWake();
+    }
+
+    /**
+     * JavaFX thread'inde çalışmayı bekleyen olay var mı?
+     */
+    static boolean hasPendingEvents() {
+        return !fxEvents.isEmpty();
+    }
+
+    /**
+     * Simülasyonun şimdiye kadar boşta modunda uyuduğu toplam süre (nanosaniye).
+     */
+    static long getIdleNanos() {
+        return idleNanos;
+    }
+
+    /**
+     * Biriken JavaFX olaylarını sırayla çalıştırır. GameLoop her pulse başında çağırır.
+     */
+    static void drainEvents() {
+        Runnable event;
+        while ((event = fxEvents.poll()) != null) {
+            event.run();
+        }
+    }
+
+    /**
+     * Yayınlanmış en yeni snapshot (JavaFX thread'i).
+     */
+    static RenderSnapshot readSnapshot() {
+        return snapshots.read();
+    }
+
+    /**
+     * Şu an işlenen tick'in numarası (simülasyon thread'i).
+     */
+    static long currentTick() {
+        return tick;
+    }
+
+    private static int configuredRate() {
+        String configured = System.getProperty("slimedefense.simRate");
+        if (configured == null || configured.isBlank()) return DEFAULT_RATE;
+
+        try {
+            return Math.max(MIN_RATE, Math.min(MAX_RATE, Integer.parseInt(configured.trim())));
+        } catch (NumberFormatException e) {
+            System.err.println("Geçersiz simülasyon hızı: " + configured);
+            return DEFAULT_RATE;
+        }
+    }
+
+    /**
+     * Sabit adımlı döngü: zamanı gelen tick'leri çalıştırır, sonra bir sonraki adıma kadar uyur.
+     * Çok geride kalınırsa kaçırılan süre telafi edilmez; oyun yavaşlar ama sıçramaz.
+     */
+    private static void run() {
+        TripleBuffer<RenderSnapshot> buffer = snapshots;
+        long next = System.nanoTime();
+
+        while (running) {
+            if (isIdle()) {
+                idleStep();
+                buffer.back().capture(tick);
+                buffer.publish();
+                next = System.nanoTime();
+                continue;
+            }
+
+            long now = System.nanoTime();
+            if (now < next) {
+                LockSupport.parkNanos(next - now);
+                continue;
+            }
+
+            int steps = 0;
+            while (running && now >= next && steps < MAX_CATCH_UP) {
+                step(STEP);
+                next += STEP_NANOS;
+                steps++;
+            }
+            if (now - next > STEP_NANOS * MAX_CATCH_UP) {
+                next = now;
+            }
+
+            buffer.back().capture(tick);
+            buffer.publish();
+            GameLoop.requestWake();     // Hareket var; render döngüsü uyuyorsa uyansın
+        }
+    }
+
+    /**
+     * Hareket eden hiçbir şey yok ve bekleyen komut yok mu?
+     */
+    private static boolean isIdle() {
+        return EnemyManager.getEnemies().isEmpty()
+                && ProjectileSystem.getProjectiles().isEmpty()
+                && commands.isEmpty();
+    }
+
+    /**
+     * Boşta adımı: bir sonraki dalga olayına (en fazla IDLE_STEP) kadar uyur, ardından
+     * geçen süreyi tek bir tick olarak işler. submit() uykuyu erken bitirir.
+     */
+    private static void idleStep() {
+        double wait = Math.min(IDLE_STEP, Math.max(0, waveManager.secondsUntilNextEvent()));
+
+        long start = System.nanoTime();
+        if (wait > 0) LockSupport.parkNanos((long) (wait * 1_000_000_000L));
+        long slept = System.nanoTime() - start;
+        idleNanos += slept;
+
+        if (running) step(slept / 1_000_000_000.0);
+    }
+
+    /**
+     * Tek bir tick: önce oyuncu komutları, ardından oyun mantığı.
+     * Bir hata döngüyü öldürmesin diye tick içindeki istisnalar yakalanıp raporlanır.
+     *
+     * @param dt Tick süresi (saniye); normalde STEP, boşta modunda uyunan süre
+     */
+    private static void step(double dt) {
+        tick++;
+        try {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                command.run();
+            }
+
+            waveManager.update(dt);
+            EnemyManager.moveEnemies(dt);
+            TowerManager.updateTowers(dt, EnemyManager.getActiveEnemies());
+            ProjectileSystem.update(dt);
+            DamageSystem.resolve();
+        } catch (RuntimeException e) {
+            System.err.println("Simülasyon tick'i başarısız (" + tick + "): " + e);
+        }
+    }
+}
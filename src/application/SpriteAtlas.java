@@ -0,0 +1,355 @@
+package application;
+
+import character.EnemyType;
+import character.SpriteSheet;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * SpriteAtlas, tüm slime ve kral sprite sheet'lerini tek bir dokuya (texture) paketler.
+ * Tüm düşmanlar tipinden bağımsız olarak aynı görseli kullandığı için render tarafında
+ * doku değişimi ve görsel başına ek yük olmaz.
+ *
+ * İlk çalıştırmada sheet'ler raf (shelf) yöntemiyle paketlenir ve önbelleğe yazılır:
+ * - sprites.idx : metin indeks (kaynak özeti, atlas boyutu, sheet başına bölge ve kare boyutu)
+ * - sprites.rgba: ham ARGB pikseller (sonraki açılışlarda bellek eşlemeli okunur, PNG çözülmez)
+ * Kaynak PNG'lerden biri değişirse özet tutmaz ve atlas yeniden paketlenir.
+ *
+ * Büyütülmüş düşman tiplerinin kareleri paketleme sırasında en yakın komşu (nearest-neighbour) yöntemiyle
+ * ölçeklenip aynı atlasa eklenir (EnemyType'taki her sprite ve ölçek için bir bölge); scaled() bu bölgeleri
+ * döndürür. Böylece ImageView'lar dönüştürülmeden 1:1 çizilir ve tüm düşmanlar yine tek dokuyu paylaşır.
+ */
+public class SpriteAtlas {
+
+    private static final int ATLAS_WIDTH = 1024;
+    private static final int PADDING = 2;           // Filtrelemede komşu sheet taşmasın
+    private static final String INDEX_FILE = "sprites.idx";
+    private static final String PIXEL_FILE = "sprites.rgba";
+    private static final String INDEX_VERSION = "2";
+
+    /**
+     * Atlasa girecek bir sheet ve kare düzeni.
+     */
+    private static final class SheetSpec {
+        final String path;
+        final int frameWidth, frameHeight, framesPerRow;
+
+        SheetSpec(String path, int frameWidth, int frameHeight, int framesPerRow) {
+            this.path = path;
+            this.frameWidth = frameWidth;
+            this.frameHeight = frameHeight;
+            this.framesPerRow = framesPerRow;
+        }
+    }
+
+    /**
+     * Atlasa paketlenecek piksel bloğu: bir sheet ya da ölçeklenmiş kopyası.
+     */
+    private static final class Block {
+        final String key;                   // Sheet yolu ya da "yol@ölçek"
+        final int[] pixels;
+        final int width, height;
+        final int frameWidth, frameHeight, framesPerRow;
+
+        Block(String key, int[] pixels, int width, int height, int frameWidth, int frameHeight, int framesPerRow) {
+            this.key = key;
+            this.pixels = pixels;
+            this.width = width;
+            this.height = height;
+            this.frameWidth = frameWidth;
+            this.frameHeight = frameHeight;
+            this.framesPerRow = framesPerRow;
+        }
+    }
+
+    private static final SheetSpec[] SHEETS;
+    private static final LinkedHashMap<String, Double> SCALED = new LinkedHashMap<>();  // "yol@ölçek" → ölçek
+
+    static {
+        SHEETS = new SheetSpec[11];
+        for (int i = 1; i <= 10; i++) {
+            SHEETS[i - 1] = new SheetSpec("/images/slime_enemy" + i + "_sheet.png", 32, 32, 8);
+        }
+        SHEETS[10] = new SheetSpec(AssetCache.KING_SHEET, 64, 64, 4);
+
+        for (EnemyType type : EnemyType.values()) {
+            if (type.scale == 1) continue;
+            for (String path : type.spritePaths) SCALED.put(scaledKey(path, type.scale), type.scale);
+        }
+    }
+
+    private static SpriteAtlas instance;
+
+    private final WritableImage image;
+    private final HashMap<String, SpriteSheet> regions = new HashMap<>();   // Sheet yolu / "yol@ölçek" → bölge
+
+    private SpriteAtlas(WritableImage image) {
+        this.image = image;
+    }
+
+    /**
+     * Atlası döndürür; ilk çağrıda önbellekten okur veya paketler. Herhangi bir thread'den çağrılabilir.
+     */
+    public static synchronized SpriteAtlas get() {
+        if (instance == null) {
+            instance = loadOrBuild();
+        }
+        return instance;
+    }
+
+    /**
+     * Verilen sheet yolunun atlastaki bölgesi.
+     *
+     * @param sheetPath "/images/slime_enemy2_sheet.png" gibi classpath yolu
+     * @throws IllegalArgumentException Sheet atlasta yoksa
+     */
+    public SpriteSheet sheet(String sheetPath) {
+        SpriteSheet sheet = regions.get(sheetPath);
+        if (sheet == null) throw new IllegalArgumentException("Atlasta olmayan sprite sheet: " + sheetPath);
+        return sheet;
+    }
+
+    /**
+     * Verilen sheet'in kareleri ölçeklenmiş kopyasının atlastaki bölgesi.
+     * Ölçekli kopyalar paketleme sırasında EnemyType'taki sprite/ölçek çiftleri için üretilir;
+     * piksel sanatı bulanıklaşmasın diye en yakın komşu örnekleme kullanılır.
+     *
+     * @param sheetPath Atlastaki sheet yolu
+     * @param scale     Kare ölçeği (1 ise atlas bölgesinin kendisi döner)
+     * @throws IllegalArgumentException Bu ölçek atlasa paketlenmemişse
+     */
+    public SpriteSheet scaled(String sheetPath, double scale) {
+        if (scale == 1) return sheet(sheetPath);
+        SpriteSheet sheet = regions.get(scaledKey(sheetPath, scale));
+        if (sheet == null) throw new IllegalArgumentException("Atlasta olmayan ölçek: " + sheetPath + " × " + scale);
+        return sheet;
+    }
+
+    private static String scaledKey(String sheetPath, double scale) {
+        return sheetPath + "@" + scale;
+    }
+
+    /**
+     * Sheet'in her karesini ayrı ayrı örnekler; komşu karenin pikselleri kenara taşmaz.
+     */
+    private static Block scaleFrames(String key, Block source, double scale) {
+        int fw = source.frameWidth;
+        int fh = source.frameHeight;
+        int perRow = source.framesPerRow;
+        int rows = source.height / fh;
+        int tw = (int) Math.round(fw * scale);
+        int th = (int) Math.round(fh * scale);
+
+        int dstWidth = perRow * tw;
+        int dstHeight = rows * th;
+        int[] dst = new int[dstWidth * dstHeight];
+        for (int ty = 0; ty < dstHeight; ty++) {
+            int sy = (ty / th) * fh + (ty % th) * fh / th;
+            for (int tx = 0; tx < dstWidth; tx++) {
+                int sx = (tx / tw) * fw + (tx % tw) * fw / tw;
+                dst[ty * dstWidth + tx] = source.pixels[sy * source.width + sx];
+            }
+        }
+
+        return new Block(key, dst, dstWidth, dstHeight, tw, th, perRow);
+    }
+
+    /**
+     * Tüm sheet'lerin bulunduğu doku.
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    // --- Yükleme ve paketleme ---
+
+    private static SpriteAtlas loadOrBuild() {
+        byte[][] sources = new byte[SHEETS.length][];
+        for (int i = 0; i < SHEETS.length; i++) {
+            sources[i] = readResource(SHEETS[i].path);
+        }
+        String hash = HexFormat.of().formatHex(CacheFiles.sha256(sources));
+        Path dir = CacheFiles.directory("atlas");
+
+        try {
+            SpriteAtlas cached = readCache(dir, hash);
+            if (cached != null) return cached;
+        } catch (IOException | RuntimeException e) {
+            // Bozuk önbellek → yeniden paketlenir
+        }
+
+        return pack(sources, dir, hash);
+    }
+
+    /**
+     * Sheet'leri çözer, ölçekli kopyaları üretir, hepsini yüksekliğe göre sıralayıp raflara yerleştirir,
+     * tek bir dokuya kopyalar ve önbelleğe yazar.
+     */
+    private static SpriteAtlas pack(byte[][] sources, Path dir, String hash) {
+        List<Block> blocks = new ArrayList<>();
+        HashMap<String, Block> byPath = new HashMap<>();
+        for (int i = 0; i < SHEETS.length; i++) {
+            SheetSpec spec = SHEETS[i];
+            Image sheet = new Image(new ByteArrayInputStream(sources[i]));
+            if (sheet.isError()) {
+                throw new IllegalStateException("Sprite sheet çözülemedi: " + spec.path, sheet.getException());
+            }
+
+            int w = (int) sheet.getWidth();
+            int h = (int) sheet.getHeight();
+            int[] pixels = new int[w * h];
+            sheet.getPixelReader().getPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), pixels, 0, w);
+
+            Block block = new Block(spec.path, pixels, w, h, spec.frameWidth, spec.frameHeight, spec.framesPerRow);
+            blocks.add(block);
+            byPath.put(spec.path, block);
+        }
+        for (java.util.Map.Entry<String, Double> scaled : SCALED.entrySet()) {
+            String path = scaled.getKey().substring(0, scaled.getKey().lastIndexOf('@'));
+            Block source = byPath.get(path);
+            if (source == null) throw new IllegalStateException("Atlasta olmayan düşman sprite'ı: " + path);
+            blocks.add(scaleFrames(scaled.getKey(), source, scaled.getValue()));
+        }
+        blocks.sort((a, b) -> Integer.compare(b.height, a.height));
+
+        // Raf paketleme: soldan sağa yerleştir, sığmazsa yeni rafa geç
+        int[][] placement = new int[blocks.size()][];
+        int x = 0, y = 0, shelfHeight = 0;
+        for (int i = 0; i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            if (x + block.width > ATLAS_WIDTH) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            placement[i] = new int[]{x, y};
+            x += block.width + PADDING;
+            shelfHeight = Math.max(shelfHeight, block.height);
+        }
+        int height = y + shelfHeight;
+
+        int[] pixels = new int[ATLAS_WIDTH * height];
+        for (int i = 0; i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            int[] p = placement[i];
+            for (int row = 0; row < block.height; row++) {
+                System.arraycopy(block.pixels, row * block.width, pixels, (p[1] + row) * ATLAS_WIDTH + p[0], block.width);
+            }
+        }
+
+        SpriteAtlas atlas = new SpriteAtlas(toImage(IntBuffer.wrap(pixels), ATLAS_WIDTH, height));
+        StringBuilder index = new StringBuilder();
+        index.append("atlas ").append(INDEX_VERSION).append(' ').append(hash).append('\n');
+        index.append("size ").append(ATLAS_WIDTH).append(' ').append(height).append('\n');
+        for (int i = 0; i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            int[] p = placement[i];
+            atlas.addRegion(block.key, p[0], p[1], block.frameWidth, block.frameHeight, block.framesPerRow);
+            index.append("sheet ").append(block.key).append(' ').append(p[0]).append(' ').append(p[1]).append(' ')
+                    .append(block.width).append(' ').append(block.height).append(' ').append(block.frameWidth).append(' ')
+                    .append(block.frameHeight).append(' ').append(block.framesPerRow).append('\n');
+        }
+
+        writeCache(dir, pixels, index.toString());
+        return atlas;
+    }
+
+    private void addRegion(String key, int x, int y, int frameWidth, int frameHeight, int framesPerRow) {
+        regions.put(key, new SpriteSheet(image, x, y, frameWidth, frameHeight, framesPerRow));
+    }
+
+    /**
+     * Önbellekteki indeks özet ve sheet listesiyle eşleşiyorsa pikselleri bellek eşlemeli okur.
+     *
+     * @return Atlas veya önbellek yok/eskiyse null
+     */
+    private static SpriteAtlas readCache(Path dir, String hash) throws IOException {
+        Path indexFile = dir.resolve(INDEX_FILE);
+        Path pixelFile = dir.resolve(PIXEL_FILE);
+        if (!Files.isRegularFile(indexFile) || !Files.isRegularFile(pixelFile)) return null;
+
+        int width = 0, height = 0;
+        HashMap<String, int[]> placements = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            String[] header = reader.readLine().split(" ");
+            if (!header[1].equals(INDEX_VERSION) || !header[2].equals(hash)) return null;
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split(" ");
+                if (parts[0].equals("size")) {
+                    width = Integer.parseInt(parts[1]);
+                    height = Integer.parseInt(parts[2]);
+                } else if (parts[0].equals("sheet")) {
+                    placements.put(parts[1], new int[]{Integer.parseInt(parts[2]), Integer.parseInt(parts[3]),
+                            Integer.parseInt(parts[6]), Integer.parseInt(parts[7]), Integer.parseInt(parts[8])});
+                }
+            }
+        }
+        for (SheetSpec spec : SHEETS) {
+            if (!placements.containsKey(spec.path)) return null;
+        }
+        for (String key : SCALED.keySet()) {
+            if (!placements.containsKey(key)) return null;     // Düşman ölçekleri değişti → yeniden paketle
+        }
+
+        try (FileChannel channel = FileChannel.open(pixelFile, StandardOpenOption.READ)) {
+            if (channel.size() != 4L * width * height) return null;
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            SpriteAtlas atlas = new SpriteAtlas(toImage(mapped.asIntBuffer(), width, height));
+            for (java.util.Map.Entry<String, int[]> entry : placements.entrySet()) {
+                int[] p = entry.getValue();
+                atlas.addRegion(entry.getKey(), p[0], p[1], p[2], p[3], p[4]);
+            }
+            return atlas;
+        }
+    }
+
+    private static void writeCache(Path dir, int[] pixels, String index) {
+        try {
+            ByteBuffer raw = ByteBuffer.allocate(pixels.length * 4);
+            raw.asIntBuffer().put(pixels);
+            // Önce pikseller, sonra indeks: indeks varsa pikseller de tamdır
+            CacheFiles.writeAtomically(dir.resolve(PIXEL_FILE), raw);
+            CacheFiles.writeAtomically(dir.resolve(INDEX_FILE), ByteBuffer.wrap(index.getBytes(StandardCharsets.UTF_8)));
+        } catch (IOException e) {
+            System.err.println("Sprite atlası önbelleğe yazılamadı: " + e.getMessage());
+        }
+    }
+
+    private static WritableImage toImage(IntBuffer pixels, int width, int height) {
+        WritableImage image = new WritableImage(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, width);
+        return image;
+    }
+
+    private static byte[] readResource(String path) {
+        try (InputStream in = SpriteAtlas.class.getResourceAsStream(path)) {
+            if (in == null) throw new IllegalStateException("Sprite sheet bulunamadı: " + path);
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
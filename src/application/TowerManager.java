@@ -1,57 +1,68 @@
 package application;
 
 import character.SlimeEnemy;
-import javafx.animation.AnimationTimer;
-import javafx.scene.layout.Pane;
+import javafx.scene.Node;
 import towers.Tower;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * TowerManager sınıfı, oyundaki tüm kulelerin davranışlarını merkezi olarak yönetir.
  * Kuleleri sahneye ekler, günceller, temizler ve lazer görselleri gibi özel durumları kontrol eder.
+ *
+ * Liste oyun sırasında yalnızca simülasyon thread'inde değişir (oyuncu komutları);
+ * arayüz (yükseltme ekranı) aynı anda okuyabildiği için kopyala-yaz listesi kullanılır.
+ *
+ * Çok kuleli sahnelerde hedef seçimi paralel yapılır: kuleler parçalara bölünüp bir ForkJoinPool'da
+ * acquireTargets() çalıştırılır (düşman listesi bu aşamada değişmez). Ardından fire() tek thread'de,
+ * kule kimliği sırasıyla çağrılır; sonuç tek thread'li çalışmayla birebir aynıdır.
+ * "slimedefense.parallelTargeting=false" ile paralel aşama kapatılabilir.
+ *
+ * Hedef seçiminden önce düşmanlar yol adımlarına göre dizinlenir (EnemyIndex); her kule yalnızca
+ * menzilinin yol kapsamına düşen adayları tarar.
  */
 public class TowerManager {
 
-    private static final List<Tower> towers = new ArrayList<>();
-    private static Pane overlayPane;  // UIManager üzerinden gelen sahne üstü çizim alanı
+    private static final int PARALLEL_THRESHOLD = 64;   // Bundan az kulede görev dağıtmaya değmez
+    private static final int CHUNK_SIZE = 16;           // Bir görevin hedef seçeceği en fazla kule
 
-    // Tüm kuleleri her frame'de güncelleyen zamanlayıcı
-    private static final AnimationTimer towerUpdateTimer = new AnimationTimer() {
-        @Override
-        public void handle(long now) {
-            List<SlimeEnemy> enemies = EnemyManager.getEnemies();
-            if (enemies == null || towers.isEmpty()) return;
+    // Tek çekirdekte paralel aşama yalnızca ek yük getirir
+    private static final boolean PARALLEL_TARGETING =
+            Boolean.parseBoolean(System.getProperty("slimedefense.parallelTargeting", "true"))
+                    && Runtime.getRuntime().availableProcessors() > 1;
+    private static final ForkJoinPool targetingPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
-            for (Tower tower : towers) {
-                if (tower.isPlaced()) {
-                    tower.update(enemies);
-                }
-            }
-        }
-    };
+    private static final List<Tower> towers = new CopyOnWriteArrayList<>();  // Kule kimliğine göre sıralı
+    private static Tower[] placedTowers = new Tower[0];                      // Tick başına yeniden doldurulur
+    private static final EnemyIndex enemyIndex = new EnemyIndex();           // Tick başına yeniden kurulur
+    private static RenderLayers layers;  // UIManager üzerinden gelen sahne üstü çizim katmanları
 
     /**
-     * Kule sahneleri, lazer çizgileri vs. için kullanılacak overlay pane'i set eder.
+     * Kule görselleri, düşmanlar, lazer çizgileri vs. için kullanılacak overlay katmanlarını set eder.
      */
-    public static void setOverlayPane(Pane pane) {
-        overlayPane = pane;
+    public static void setLayers(RenderLayers renderLayers) {
+        layers = renderLayers;
     }
 
     /**
-     * Şu anki overlayPane'i döndürür.
+     * Şu anki overlay katmanlarını döndürür.
      */
-    public static Pane getOverlayPane() {
-        return overlayPane;
+    public static RenderLayers getLayers() {
+        return layers;
     }
 
     /**
-     * Oyuna yeni bir kule ekler.
+     * Oyuna yeni bir kule ekler. Liste kule kimliğine göre sıralı tutulur (ateş sırası).
      * @param tower Yeni kule nesnesi
      */
     public static void addTower(Tower tower) {
-        towers.add(tower);
+        int index = towers.size();
+        while (index > 0 && towers.get(index - 1).getId() > tower.getId()) index--;
+        towers.add(index, tower);
     }
 
     /**
@@ -64,29 +75,93 @@ public class TowerManager {
 
     /**
      * Tüm kuleleri ve görsellerini sahneden temizler.
-     * Genellikle level yeniden başlatıldığında çağrılır.
+     * Genellikle level yeniden başlatıldığında, simülasyon durduktan sonra JavaFX thread'inde çağrılır.
      */
     public static void clear() {
-        if (overlayPane != null) {
+        if (layers != null) {
+            List<Node> shapes = new ArrayList<>(towers.size());
             for (Tower tower : towers) {
-                overlayPane.getChildren().remove(tower.getTowerShape());
+                shapes.add(tower.getTowerShape());
             }
+            layers.removeAll(RenderLayers.Layer.TOWERS, shapes);
         }
         towers.clear();
     }
 
     /**
-     * Oyun başladığında kule davranışlarını çalıştırır.
+     * Yerleştirilmiş tüm kulelerin hedef seçme/ateş etme davranışını çalıştırır.
+     * Simulation tarafından her tick'te çağrılır.
+     *
+     * @param dt      Tick süresi (saniye)
+     * @param enemies Bu tick'teki canlı düşmanlar; hedef seçimi sırasında değişmemelidir
      */
-    public static void start() {
-        towerUpdateTimer.start();
+    public static void updateTowers(double dt, List<SlimeEnemy> enemies) {
+        if (enemies == null || towers.isEmpty()) return;
+
+        int count = collectPlacedTowers();
+        enemyIndex.rebuild(enemies);
+
+        // 1) Hedef seçimi: kuleler birbirinden bağımsız, paralel çalışabilir
+        if (PARALLEL_TARGETING && count >= PARALLEL_THRESHOLD) {
+            targetingPool.invoke(new TargetingTask(placedTowers, 0, count, dt, enemyIndex));
+        } else {
+            for (int i = 0; i < count; i++) {
+                Tower tower = placedTowers[i];
+                tower.acquireTargets(dt, tower.coveredEnemies(enemyIndex));
+            }
+        }
+
+        // 2) Ateş: mermi ve hasar komutları kule kimliği sırasıyla, tek thread'de
+        for (int i = 0; i < count; i++) {
+            placedTowers[i].fire(dt);
+        }
+    }
+
+    private static int collectPlacedTowers() {
+        if (placedTowers.length < towers.size()) {
+            placedTowers = new Tower[Math.max(towers.size(), placedTowers.length * 2)];
+        }
+
+        int count = 0;
+        for (Tower tower : towers) {
+            if (tower.isPlaced()) placedTowers[count++] = tower;
+        }
+        return count;
     }
 
     /**
-     * Oyun durduğunda kule güncellemelerini durdurur.
+     * Kule aralığını CHUNK_SIZE'lık parçalara bölerek hedef seçimini çalıştırır.
      */
-    public static void stop() {
-        towerUpdateTimer.stop();
+    private static class TargetingTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        // Görev serileştirilmez; kule ve dizin referansları yalnızca bu tick için tutulur
+        private final transient Tower[] towers;
+        private final int from, to;
+        private final double dt;
+        private final transient EnemyIndex index;
+
+        TargetingTask(Tower[] towers, int from, int to, double dt, EnemyIndex index) {
+            this.towers = towers;
+            this.from = from;
+            this.to = to;
+            this.dt = dt;
+            this.index = index;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CHUNK_SIZE) {
+                for (int i = from; i < to; i++) {
+                    towers[i].acquireTargets(dt, towers[i].coveredEnemies(index));
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new TargetingTask(towers, from, mid, dt, index),
+                      new TargetingTask(towers, mid, to, dt, index));
+        }
     }
 
     /**
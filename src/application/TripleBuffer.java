@@ -0,0 +1,56 @@
+package application;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * TripleBuffer, tek yazan ve tek okuyan thread arasında kilitsiz (lock-free) veri paylaşımı sağlar.
+ * Üç tampondan biri yazara (back), biri okuyucuya (front) aittir; üçüncüsü (middle) ikisi arasında
+ * tek bir atomik değişimle el değiştirir.
+ * - Yazar asla beklemez: publish() her zaman anında döner, okunmamış eski kare üzerine yazılır.
+ * - Okuyucu asla yarım yazılmış bir kare görmez ve okuduğu kare o okuyana kadar değişmez.
+ *
+ * Tamponlar yeniden kullanılır; her yayında yeni nesne oluşturulmaz.
+ */
+final class TripleBuffer<T> {
+
+    private static final int INDEX_MASK = 0b011;
+    private static final int FRESH = 0b100;        // Middle tamponunda okunmamış bir kare var
+
+    private final Object[] buffers = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;       // Yalnızca yazar thread'i
+    private int front = 2;      // Yalnızca okuyucu thread'i
+
+    TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = factory.get();
+        }
+    }
+
+    /**
+     * Yazarın doldurabileceği tampon (yazar thread'i).
+     */
+    @SuppressWarnings("unchecked")
+    T back() {
+        return (T) buffers[back];
+    }
+
+    /**
+     * Doldurulan tamponu yayınlar ve yazara yeni bir tampon verir (yazar thread'i).
+     */
+    void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Yayınlanmış en yeni kareyi döndürür; yeni kare yoksa bir öncekini (okuyucu thread'i).
+     */
+    @SuppressWarnings("unchecked")
+    T read() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) buffers[front];
+    }
+}
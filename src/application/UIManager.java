@@ -1,8 +1,9 @@
 package application;
 
-import character.SlimeEnemy;
+import application.RenderLayers.Layer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.geometry.Pos;
@@ -11,12 +12,15 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import towers.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 /**
@@ -25,6 +29,10 @@ import java.util.function.Supplier;
  * - Kulelerin sahneye yerleştirilmesini, sürüklenmesini ve satışını yönetir.
  * - Oyun durumuna göre para/can bilgilerini günceller.
  * - Kule yükseltme işlemlerini yürütür.
+ *
+ * Oyun durumunu değiştiren işlemler (yerleştirme, taşıma, satma, yükseltme) doğrudan yapılmaz;
+ * Simulation.submit() ile simülasyon thread'ine komut olarak gönderilir. Sahne düğümleri
+ * (kule şekli, menzil çemberi) ise hemen güncellenir, böylece sürükleme gecikmesiz hissedilir.
  */
 public class UIManager {
 
@@ -34,7 +42,8 @@ public class UIManager {
     private final Label moneyLabel, livesLabel, waveLabel; // Bilgi etiketleri
     private final GameState gameState;          // Oyun durumu referansı (para, can vs.)
     private final Map map;                      // Oyun haritası (grid sistemi)
-    private final Pane overlayPane = new Pane(); // Kulelerin ve efektlerin çizileceği alan
+    private final RenderLayers layers = new RenderLayers(); // Kulelerin ve efektlerin çizileceği katmanlar
+    private final Pane overlayPane = layers.getRoot();      // Katmanların kökü (koordinat dönüşümleri için)
     private Rectangle sellArea;                 // Kulelerin sürüklenip satılabileceği alan
 
     // --- Kule Yerleştirme/Yönetimi ---
@@ -46,6 +55,7 @@ public class UIManager {
 
     private boolean upgradeMode = false;        // Upgrade modu aktif mi?
     private final List<Circle> upgradeCircles = new ArrayList<>();
+    private final List<Line> coverageLines = new ArrayList<>();    // Menzilin yol üzerindeki kısımları
     private final List<StackPane> upgradeButtons = new ArrayList<>();
 
     // --- Kule Butonları ---
@@ -54,6 +64,7 @@ public class UIManager {
         StackPane button;
         Rectangle bg;
         int cost;
+        Boolean affordable;     // Ekranda gösterilen durum (null → henüz çizilmedi)
 
         ButtonData(StackPane button, Rectangle bg, int cost) {
             this.button = button;
@@ -64,6 +75,21 @@ public class UIManager {
 
     private final List<ButtonData> towerButtons = new ArrayList<>();
 
+    // --- HUD Modeli ---
+
+    /**
+     * Ekranda en son gösterilen değerler. Flush sırasında sadece değişen düğümlere dokunulur.
+     * dirty ve flushScheduled simülasyon thread'inden de yazılır.
+     */
+    private static class HudModel {
+        int shownMoney = Integer.MIN_VALUE;
+        int shownLives = Integer.MIN_VALUE;
+        volatile boolean dirty;                                     // Para/can değişti, henüz ekrana yansımadı
+        final AtomicBoolean flushScheduled = new AtomicBoolean();   // Flush zaten sıraya alındı mı?
+    }
+
+    private final HudModel hud = new HudModel();
+
     // --- Constructor ---
 
     /**
@@ -79,9 +105,9 @@ public class UIManager {
         towerPanel.setPrefWidth(250);
         towerPanel.setAlignment(Pos.CENTER);
 
-        // Etiketleri oluştur ve panele ekle
-        moneyLabel = new Label("Money: $" + gameState.getMoney());
-        livesLabel = new Label("Lives: " + gameState.getLives());
+        // Etiketleri oluştur ve panele ekle (metinler ilk flush'ta yazılır)
+        moneyLabel = new Label();
+        livesLabel = new Label();
         waveLabel = new Label();
 
         for (Label label : new Label[]{moneyLabel, livesLabel, waveLabel}) {
@@ -91,7 +117,9 @@ public class UIManager {
 
         towerPanel.getChildren().addAll(moneyLabel, livesLabel, waveLabel);
         createTowerButtons();
-        overlayPane.setPickOnBounds(false); // Overlay'de tıklanabilir boşluklar olacak
+
+        hud.dirty = true;
+        flushHud();
     }
 
     // --- Kule Butonları ---
@@ -148,7 +176,8 @@ public class UIManager {
 
             // Önceden seçili kule varsa sahneden sil
             if (selectedTower != null && !selectedTower.isPlaced()) {
-                overlayPane.getChildren().removeAll(selectedTower.getTowerShape(), rangeCircle);
+                layers.remove(selectedTower.getTowerShape());
+                layers.remove(rangeCircle);
                 selectedTower = null;
                 rangeCircle = null;
             }
@@ -169,8 +198,8 @@ public class UIManager {
             rangeCircle.setTranslateX(local.getX());
             rangeCircle.setTranslateY(local.getY());
 
-            overlayPane.getChildren().removeAll(tower.getTowerShape(), rangeCircle);
-            overlayPane.getChildren().addAll(tower.getTowerShape(), rangeCircle);
+            layers.add(Layer.TOWERS, tower.getTowerShape(), tower);
+            layers.add(Layer.GROUND, rangeCircle);
         });
 
         towerPanel.getChildren().add(button);
@@ -187,6 +216,10 @@ public class UIManager {
         return overlayPane;
     }
 
+    public RenderLayers getLayers() {
+        return layers;
+    }
+
     public Rectangle getSellArea() {
         return this.sellArea;
     }
@@ -220,50 +253,51 @@ public class UIManager {
             if (sellArea != null) {
                 Bounds bounds = sellArea.localToScene(sellArea.getBoundsInLocal());
                 if (!bounds.contains(e.getSceneX(), e.getSceneY())) {
-                    overlayPane.getChildren().removeAll(selectedTower.getTowerShape(), rangeCircle);
+                    layers.remove(selectedTower.getTowerShape());
+                    layers.remove(rangeCircle);
                     selectedTower = null;
                     rangeCircle = null;
                     return;
                 }
             }
 
-            // Grid'e tıklanırsa yerleştir
-            Point2D clickPoint = map.getGridPane().sceneToLocal(e.getSceneX(), e.getSceneY());
-            for (int row = 0; row < map.getHeight(); row++) {
-                for (int col = 0; col < map.getWidth(); col++) {
-                    Rectangle cell = map.getCell(row, col);
-                    Bounds bounds = cell.getBoundsInParent();
-
-                    if (bounds.contains(clickPoint)) {
-                        if (map.isPathCell(row, col)) return;
-
-                        double centerX = bounds.getMinX() + bounds.getWidth() / 2;
-                        double centerY = bounds.getMinY() + bounds.getHeight() / 2;
-
-                        for (Tower existing : TowerManager.getTowers()) {
-                            if (Math.abs(existing.getX() - centerX) < 1 && Math.abs(existing.getY() - centerY) < 1)
-                                return;
-                        }
-
-                        selectedTower.getTowerShape().setTranslateX(centerX);
-                        selectedTower.getTowerShape().setTranslateY(centerY);
-                        selectedTower.setX(centerX);
-                        selectedTower.setY(centerY);
-                        selectedTower.setPlaced(true);
-
-                        if (gameState.spendMoney(selectedTower.getCost())) {
-                            TowerManager.addTower(selectedTower);
-                            makeTowerDraggable(selectedTower);
-                            updateUI();
-                        }
-
-                        overlayPane.getChildren().remove(rangeCircle);
-                        selectedTower = null;
-                        rangeCircle = null;
-                        return;
-                    }
+            // Grid'e tıklanırsa yerleştir (hücre aritmetik olarak bulunur)
+            Point2D clickPoint = map.getView().sceneToLocal(e.getSceneX(), e.getSceneY());
+            int cell = map.cellAt(clickPoint.getX(), clickPoint.getY());
+            if (cell < 0) return;
+
+            int row = map.cellRow(cell);
+            int col = map.cellCol(cell);
+            if (map.isPathCell(row, col) || map.getOccupant(row, col) != null) return;
+
+            double centerX = map.cellCenterX(col);
+            double centerY = map.cellCenterY(row);
+
+            Tower tower = selectedTower;
+            tower.getTowerShape().setTranslateX(centerX);
+            tower.getTowerShape().setTranslateY(centerY);
+            tower.setX(centerX);
+            tower.setY(centerY);
+            map.occupy(row, col, tower);    // Hücre hemen tutulur; aynı yere ikinci kule konamaz
+
+            layers.remove(rangeCircle);
+            selectedTower = null;
+            rangeCircle = null;
+
+            // Para simülasyon thread'inde harcanır; yetmezse yerleştirme geri alınır
+            Simulation.submit(() -> {
+                if (gameState.spendMoney(tower.getCost())) {
+                    tower.setPlaced(true);
+                    TowerManager.addTower(tower);
+                    updateUI();
+                    Simulation.post(() -> makeTowerDraggable(tower));
+                } else {
+                    Simulation.post(() -> {
+                        layers.remove(tower.getTowerShape());
+                        map.vacate(tower);
+                    });
                 }
-            }
+            });
         });
     }
 
@@ -283,6 +317,7 @@ public class UIManager {
 
     /**
      * Tüm sahnedeki kuleler için yükseltme butonları ve menzil halkaları ekler.
+     * Menzilin yolla kesiştiği kısımlar (kulenin gerçekten ateş edebileceği yol) ayrıca vurgulanır.
      */
     private void showUpgradeUI() {
         for (Tower tower : TowerManager.getTowers()) {
@@ -297,15 +332,36 @@ public class UIManager {
             circle.setTranslateY(tower.getY());
             circle.setMouseTransparent(true);
             upgradeCircles.add(circle);
-            overlayPane.getChildren().add(circle);
+            layers.add(Layer.GROUND, circle);
+
+            // Yol kapsamı
+            PathCoverage coverage = tower.getCoverage();
+            for (int i = 0; coverage != null && i < coverage.size(); i++) {
+                double[] piece = coverage.getPiece(i);
+                Line line = new Line(piece[0], piece[1], piece[2], piece[3]);
+                line.setStroke(Color.DARKRED.deriveColor(0, 1, 1, 0.35));
+                line.setStrokeWidth(6);
+                line.setStrokeLineCap(StrokeLineCap.ROUND);
+                line.setMouseTransparent(true);
+                coverageLines.add(line);
+                layers.add(Layer.GROUND, line);
+            }
 
             // Yükseltme butonu
             StackPane upgradeButton = createUpgradeButton(tower);
             upgradeButton.setTranslateX(tower.getX() - 30);
             upgradeButton.setTranslateY(tower.getY() - 40);
             upgradeButtons.add(upgradeButton);
-            overlayPane.getChildren().add(upgradeButton);
-            upgradeButton.toFront();
+            layers.add(Layer.UI, upgradeButton);   // Arayüz katmanı her zaman en üstte
+
+            // Hedefleme modu butonu (kulenin altında)
+            if (tower.hasTargetingMode()) {
+                StackPane modeButton = createTargetingButton(tower);
+                modeButton.setTranslateX(tower.getX() - 30);
+                modeButton.setTranslateY(tower.getY() + 25);
+                upgradeButtons.add(modeButton);
+                layers.add(Layer.UI, modeButton);
+            }
         }
     }
 
@@ -313,9 +369,11 @@ public class UIManager {
      * Upgrade UI öğelerini sahneden temizler.
      */
     void hideUpgradeUI() {
-        overlayPane.getChildren().removeAll(upgradeCircles);
-        overlayPane.getChildren().removeAll(upgradeButtons);
+        layers.removeAll(Layer.GROUND, upgradeCircles);
+        layers.removeAll(Layer.GROUND, coverageLines);
+        layers.removeAll(Layer.UI, upgradeButtons);
         upgradeCircles.clear();
+        coverageLines.clear();
         upgradeButtons.clear();
     }
 
@@ -364,12 +422,52 @@ public class UIManager {
         pane.setOnMouseClicked(e -> {
             if (tower.getLevel() >= 3) return;
 
-            if (gameState.spendMoney(tower.getUpgradeCost())) {
+            Simulation.submit(() -> {
+                if (tower.getLevel() >= 3 || !gameState.spendMoney(tower.getUpgradeCost())) return;
+
                 tower.upgrade();
                 updateUI();
-                hideUpgradeUI();
-                showUpgradeUI();
-            }
+                Simulation.post(() -> {
+                    if (upgradeMode) {
+                        hideUpgradeUI();
+                        showUpgradeUI();
+                    }
+                });
+            });
+        });
+
+        return pane;
+    }
+
+    /**
+     * Kulenin hedefleme modunu gösteren buton. Her tıklamada sıradaki moda geçer;
+     * etiket hemen güncellenir, mod simülasyon thread'inde uygulanır.
+     */
+    private StackPane createTargetingButton(Tower tower) {
+        StackPane pane = new StackPane();
+        pane.setPickOnBounds(false);
+
+        Rectangle bg = new Rectangle(60, 20);
+        bg.setArcWidth(10);
+        bg.setArcHeight(10);
+        bg.setFill(Color.LIGHTSTEELBLUE);
+
+        TargetingMode[] mode = {tower.getTargetingMode()};
+        Label label = new Label(mode[0].getLabel());
+        label.setFont(Font.font(11));
+        label.setTextFill(Color.BLACK);
+
+        pane.getChildren().addAll(bg, label);
+
+        pane.setOnMouseEntered(e -> bg.setFill(Color.STEELBLUE));
+        pane.setOnMouseExited(e -> bg.setFill(Color.LIGHTSTEELBLUE));
+
+        pane.setOnMouseClicked(e -> {
+            mode[0] = mode[0].next();
+            label.setText(mode[0].getLabel());
+
+            TargetingMode selected = mode[0];
+            Simulation.submit(() -> tower.setTargetingMode(selected));
         });
 
         return pane;
@@ -397,29 +495,23 @@ public class UIManager {
                 upgradeMode = false;
             }
 
-            if (tower instanceof LaserTower laser) {
-                laser.pauseLasers();
-            }
-
-            shape.toFront();
-            originalX[0] = tower.getX();
-            originalY[0] = tower.getY();
-            tower.setPlaced(false);
+            shape.setViewOrder(-1);     // Sürüklenen kule diğer kulelerin üstünde çizilir (liste sırası değişmez)
+            originalX[0] = shape.getTranslateX();    // Bekleyen taşıma komutu olabilir; görsel günceldir
+            originalY[0] = shape.getTranslateY();
+            Simulation.submit(() -> tower.setPlaced(false));   // Sürüklenirken ateş etmez
 
             dragRangeCircle.setTranslateX(originalX[0]);
             dragRangeCircle.setTranslateY(originalY[0]);
-            overlayPane.getChildren().add(dragRangeCircle);
+            layers.add(Layer.GROUND, dragRangeCircle);
 
             e.consume();
         });
 
-        // Sürüklenirken kule konumu güncellenir
+        // Sürüklenirken yalnızca görsel taşınır; kule konumu bırakılınca güncellenir
         shape.setOnMouseDragged(e -> {
             Point2D local = overlayPane.sceneToLocal(e.getSceneX(), e.getSceneY());
             shape.setTranslateX(local.getX());
             shape.setTranslateY(local.getY());
-            tower.setX(local.getX());
-            tower.setY(local.getY());
             dragRangeCircle.setTranslateX(local.getX());
             dragRangeCircle.setTranslateY(local.getY());
             e.consume();
@@ -427,68 +519,56 @@ public class UIManager {
 
         // Sürükleme bırakıldığında:
         shape.setOnMouseReleased(e -> {
-            overlayPane.getChildren().remove(dragRangeCircle);
+            layers.remove(dragRangeCircle);
+            shape.setViewOrder(0);
 
-            Point2D clickPoint = map.getGridPane().sceneToLocal(e.getSceneX(), e.getSceneY());
+            Point2D clickPoint = map.getView().sceneToLocal(e.getSceneX(), e.getSceneY());
 
             // Eğer satış alanına bırakıldıysa
             if (sellArea != null) {
                 Bounds bounds = sellArea.localToScene(sellArea.getBoundsInLocal());
                 if (!bounds.contains(e.getSceneX(), e.getSceneY())) {
-                    overlayPane.getChildren().remove(shape);
-                    TowerManager.removeTower(tower);
-                    gameState.addMoney(tower.getCost());
-                    updateUI();
+                    layers.remove(shape);
+                    LeakDetector.ownerDied(tower);
+                    map.vacate(tower);
+                    Simulation.submit(() -> {
+                        TowerManager.removeTower(tower);
+                        gameState.addMoney(tower.getCost());
+                        updateUI();
+                    });
                     return;
                 }
             }
 
             // Haritada geçerli bir hücreye bırakılmış mı?
-            for (int row = 0; row < map.getHeight(); row++) {
-                for (int col = 0; col < map.getWidth(); col++) {
-                    Rectangle cell = map.getCell(row, col);
-                    Bounds cellBounds = cell.getBoundsInParent();
-
-                    if (cellBounds.contains(clickPoint)) {
-                        if (map.isPathCell(row, col)) {
-                            resetPosition(shape, tower, originalX[0], originalY[0]);
-                            return;
-                        }
-
-                        for (Tower existing : TowerManager.getTowers()) {
-                            if (existing == tower) continue;
-                            double ex = existing.getX();
-                            double ey = existing.getY();
-                            double cx = cellBounds.getMinX() + cellBounds.getWidth() / 2;
-                            double cy = cellBounds.getMinY() + cellBounds.getHeight() / 2;
-
-                            if (Math.abs(ex - cx) < 1 && Math.abs(ey - cy) < 1) {
-                                resetPosition(shape, tower, originalX[0], originalY[0]);
-                                return;
-                            }
-                        }
-
-                        double cx = cellBounds.getMinX() + cellBounds.getWidth() / 2;
-                        double cy = cellBounds.getMinY() + cellBounds.getHeight() / 2;
-
-                        shape.setTranslateX(cx);
-                        shape.setTranslateY(cy);
-                        tower.setX(cx);
-                        tower.setY(cy);
-                        tower.setPlaced(true);
-
-                        if (tower instanceof LaserTower laser) {
-                            laser.resumeLasers();
-                        }
-
-                        e.consume();
-                        return;
-                    }
-                }
+            int cell = map.cellAt(clickPoint.getX(), clickPoint.getY());
+            if (cell < 0) {
+                // Hiçbir geçerli yere bırakılmadıysa eski yerine geri döndür
+                resetPosition(shape, tower, originalX[0], originalY[0]);
+                return;
+            }
+
+            int row = map.cellRow(cell);
+            int col = map.cellCol(cell);
+            Tower occupant = map.getOccupant(row, col);
+            if (map.isPathCell(row, col) || (occupant != null && occupant != tower)) {
+                resetPosition(shape, tower, originalX[0], originalY[0]);
+                return;
             }
 
-            // Hiçbir geçerli yere bırakılmadıysa eski yerine geri döndür
-            resetPosition(shape, tower, originalX[0], originalY[0]);
+            double cx = map.cellCenterX(col);
+            double cy = map.cellCenterY(row);
+
+            shape.setTranslateX(cx);
+            shape.setTranslateY(cy);
+            map.occupy(row, col, tower);
+            Simulation.submit(() -> {
+                tower.setX(cx);
+                tower.setY(cy);
+                tower.setPlaced(true);
+            });
+
+            e.consume();
         });
     }
 
@@ -498,9 +578,7 @@ public class UIManager {
     private void resetPosition(Node shape, Tower tower, double x, double y) {
         shape.setTranslateX(x);
         shape.setTranslateY(y);
-        tower.setX(x);
-        tower.setY(y);
-        tower.setPlaced(true);
+        Simulation.submit(() -> tower.setPlaced(true));
     }
 
     // --- Dalga Sayaçları ve UI Güncelleme ---
@@ -526,23 +604,52 @@ public class UIManager {
         }));
         waveCountdown.setCycleCount((int) seconds);
         waveCountdown.play();
+        LeakDetector.track(waveCountdown, this);
     }
 
     /**
-     * Para ve can etiketlerini günceller.
-     * Ayrıca buton renklerini paraya göre değiştirir.
+     * Para/can değiştiğini bildirir. Etiketler hemen değil, bir sonraki pulse'ta
+     * tek bir flush ile güncellenir; arada gelen tüm çağrılar birleştirilir.
+     * Herhangi bir thread'den (çoğunlukla simülasyondan) çağrılabilir.
      */
     public void updateUI() {
-        moneyLabel.setText("Money: $" + gameState.getMoney());
-        livesLabel.setText("Lives: " + gameState.getLives());
+        hud.dirty = true;
+        if (hud.flushScheduled.getAndSet(true)) return;
 
-        for (ButtonData data : towerButtons) {
-            if (gameState.getMoney() < data.cost) {
-                data.bg.setFill(Color.web("#D3C1A2")); // Yetersiz
-            } else {
-                data.bg.setFill(Color.web("#F2D79D")); // Alınabilir
+        Platform.runLater(this::flushHud);
+    }
+
+    /**
+     * HUD modelini ekrana yansıtır. Sadece gösterilen değeri gerçekten değişen
+     * etiketlere ve alınabilirlik durumu değişen butonlara dokunulur.
+     */
+    private void flushHud() {
+        hud.flushScheduled.set(false);
+        if (!hud.dirty) return;
+        hud.dirty = false;
+
+        int money = gameState.getMoney();
+        int lives = gameState.getLives();
+
+        if (money != hud.shownMoney) {
+            hud.shownMoney = money;
+            moneyLabel.setText("Money: $" + money);
+
+            for (ButtonData data : towerButtons) {
+                boolean affordable = money >= data.cost;
+                if (data.affordable != null && data.affordable == affordable) continue;
+
+                data.affordable = affordable;
+                data.bg.setFill(affordable
+                        ? Color.web("#F2D79D")   // Alınabilir
+                        : Color.web("#D3C1A2")); // Yetersiz
             }
         }
+
+        if (lives != hud.shownLives) {
+            hud.shownLives = lives;
+            livesLabel.setText("Lives: " + lives);
+        }
     }
 }
 
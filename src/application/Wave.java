@@ -1,8 +1,13 @@
 package application;
 
+import character.EnemyType;
+
+import java.util.Random;
+
 /**
  * Wave sınıfı, oyundaki bir düşman dalgasını temsil eder.
  * Her dalga; yavaş, normal ve hızlı düşman sayısı ile başlama gecikmesi ve düşmanlar arası süreyi içerir.
+ * Dalga başlarken withSchedule() ile karıştırılmış bir spawn çizelgesi (tip sırası + zamanlar) üretilir.
  */
 public class Wave {
 
@@ -17,6 +22,10 @@ public class Wave {
     // Dalgadan önceki toplam gecikme süresi (saniye cinsinden)
     private final double startDelay;
 
+    // Spawn çizelgesi (yoksa null): i. düşmanın tipi ve dalga başından itibaren spawn zamanı
+    private final EnemyType[] spawnOrder;
+    private final double[] spawnTimes;
+
     /**
      * Yeni bir Wave (düşman dalgası) oluşturur.
      * @param slow         Yavaş düşman sayısı
@@ -26,11 +35,76 @@ public class Wave {
      * @param startDelay   Dalga başlamadan önceki bekleme süresi (saniye)
      */
     public Wave(int slow, int normal, int fast, double delayBetween, double startDelay) {
+        this(slow, normal, fast, delayBetween, startDelay, null, null);
+    }
+
+    /**
+     * Spawn çizelgesi ile birlikte dalga oluşturur (withSchedule() için).
+     *
+     * @param spawnOrder Düşmanların spawn sırası
+     * @param spawnTimes Her düşmanın dalga başından itibaren spawn zamanı (saniye)
+     */
+    private Wave(int slow, int normal, int fast, double delayBetween, double startDelay,
+                EnemyType[] spawnOrder, double[] spawnTimes) {
         this.slowCount = slow;
         this.normalCount = normal;
         this.fastCount = fast;
         this.delayBetweenEnemies = delayBetween;
         this.startDelay = startDelay;
+        this.spawnOrder = spawnOrder;
+        this.spawnTimes = spawnTimes;
+    }
+
+    /**
+     * Bu dalga için spawn çizelgesi üretir: tipler verilen Random ile karıştırılır,
+     * i. düşman startDelay + (i + 1) * delayBetween anında çıkar.
+     *
+     * @param random Karıştırma için kullanılacak rastgele sayı üreteci
+     * @return Çizelgeli yeni Wave
+     */
+    public Wave withSchedule(Random random) {
+        int total = getTotalCount();
+        EnemyType[] order = new EnemyType[total];
+        int i = 0;
+        for (int k = 0; k < slowCount; k++) order[i++] = EnemyType.SLOW;
+        for (int k = 0; k < normalCount; k++) order[i++] = EnemyType.NORMAL;
+        for (int k = 0; k < fastCount; k++) order[i++] = EnemyType.FAST;
+
+        // Fisher-Yates karıştırma
+        for (int k = total - 1; k > 0; k--) {
+            int j = random.nextInt(k + 1);
+            EnemyType tmp = order[k];
+            order[k] = order[j];
+            order[j] = tmp;
+        }
+
+        double[] times = new double[total];
+        for (int k = 0; k < total; k++) {
+            times[k] = startDelay + (k + 1) * delayBetweenEnemies;
+        }
+
+        return new Wave(slowCount, normalCount, fastCount, delayBetweenEnemies, startDelay, order, times);
+    }
+
+    /**
+     * Düşmanların spawn sırası (çizelge yoksa null). Dizi değiştirilmemelidir.
+     */
+    public EnemyType[] getSpawnOrder() {
+        return spawnOrder;
+    }
+
+    /**
+     * Düşmanların dalga başından itibaren spawn zamanları (çizelge yoksa null). Dizi değiştirilmemelidir.
+     */
+    public double[] getSpawnTimes() {
+        return spawnTimes;
+    }
+
+    /**
+     * Dalgadaki toplam düşman sayısı.
+     */
+    public int getTotalCount() {
+        return slowCount + normalCount + fastCount;
     }
 
     /**
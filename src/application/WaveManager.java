@@ -3,34 +3,42 @@ package application;
 import character.EnemyType;
 import character.King;
 import character.SlimeEnemy;
-import javafx.animation.Animation;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
-import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
 import java.util.List;
+import java.util.Random;
 
 /**
  * WaveManager sınıfı, her dalgadaki düşmanların zamanlamalı şekilde spawn edilmesinden sorumludur.
  * Oyun içindeki akışı kontrol eder, UI'yi günceller ve dalgalar arası gecikmeleri yönetir.
+ *
+ * Zamanlama simülasyon saatiyle yapılır: Simulation her tick'te update() çağırır.
+ * Spawn'lar ve dalga geçişleri bu yüzden yalnızca simülasyon thread'inde gerçekleşir.
  */
 public class WaveManager {
 
+    private static final double START_DELAY = 2;        // Oyun başında ilk dalgadan önceki bekleme (sn)
+    private static final double NEXT_WAVE_DELAY = 2;    // Son spawn'dan sonraki dalgaya kadar bekleme (sn)
+
     private final List<Wave> waves;
     private final Map map;
     private final GameState gameState;
+    private final Random random = new Random();   // Dalga başında spawn sırasını karıştırmak için
     private King king;
+    private UIManager uiManager;
 
     private int currentWaveIndex = 0;
-
-    // Zamanlayıcılar
-    private Timeline waveTimeline;
-    private Timeline spawnTimeline;
-    private Timeline startDelayTimeline;
-    private Timeline waitForNextWaveTimeline;
+    private int spawnCounter = 0;       // Spawn noktaları arasında sırayla dağıtım için
+
+    // Simülasyon saati ve çizelge (yalnızca simülasyon thread'i)
+    private double clock;               // Seviye başından beri geçen süre (sn)
+    private double nextWaveAt = -1;     // Bir sonraki dalganın başlayacağı an (-1 → yok)
+    private double waveStart;           // Mevcut dalganın başladığı an
+    private EnemyType[] spawnOrder;
+    private double[] spawnTimes;        // Dalga başına göre spawn anları
+    private int nextSpawn;
+    private int[] spawns;
+    private volatile boolean stopped;
 
     /**
      * Yeni bir WaveManager nesnesi oluşturur.
@@ -47,131 +55,135 @@ public class WaveManager {
     }
 
     /**
-     * Oyun başladığında ilk dalgayı başlatır.
+     * Dalga çizelgesini sıfırlar; ilk dalga simülasyon saatiyle kısa bir gecikmeden sonra başlar.
+     * Simülasyon başlatılmadan önce JavaFX thread'inde çağrılır.
      */
     public void start(Stage stage, UIManager uiManager) {
-        waveTimeline = new Timeline();
-        waveTimeline.setCycleCount(Timeline.INDEFINITE);
-
-        // Oyun başlangıcında kısa gecikme (örneğin harita yüklenmesi için)
-        Timeline delayBeforeStart = new Timeline(
-                new KeyFrame(Duration.seconds(2), e -> nextWave(uiManager))
-        );
-        delayBeforeStart.setCycleCount(1);
-        delayBeforeStart.play();
+        this.uiManager = uiManager;
+        this.spawns = map.getPathNetwork().getSpawns();
+        clock = 0;
+        nextWaveAt = START_DELAY;   // Oyun başlangıcında kısa gecikme (örneğin harita yüklenmesi için)
+        spawnOrder = null;
+        stopped = false;
+    }
+
+    /**
+     * Simülasyon saatini ilerletir; zamanı gelen düşmanları çıkarır ve sıradaki dalgayı başlatır.
+     * Simulation tarafından her tick'te çağrılır.
+     *
+     * @param dt Tick süresi (saniye)
+     */
+    public void update(double dt) {
+        if (stopped) return;
+        clock += dt;
+
+        while (spawnOrder != null && nextSpawn < spawnOrder.length
+                && clock >= waveStart + spawnTimes[nextSpawn]) {
+            spawnEnemy(spawnOrder[nextSpawn++]);
+        }
+
+        if (nextWaveAt >= 0 && clock >= nextWaveAt) {
+            nextWave();
+        }
     }
 
     /**
-     * Bir sonraki dalgayı başlatır. Eğer tüm dalgalar bitti ise kazanan durumuna geçer.
+     * Bir sonraki spawn'a ya da dalga geçişine kalan simülasyon süresi (saniye).
+     * Bekleyen olay yoksa sonsuz döner. Simülasyon boşta modunda ne kadar uyuyacağını buna göre seçer.
      */
-    private void nextWave(UIManager uiManager) {
+    public double secondsUntilNextEvent() {
+        if (stopped) return Double.POSITIVE_INFINITY;
+
+        double next = Double.POSITIVE_INFINITY;
+        if (spawnOrder != null && nextSpawn < spawnOrder.length) {
+            next = waveStart + spawnTimes[nextSpawn] - clock;
+        }
+        if (nextWaveAt >= 0) {
+            next = Math.min(next, nextWaveAt - clock);
+        }
+        return next;
+    }
+
+    /**
+     * Bir sonraki dalgayı başlatır. Eğer tüm dalgalar bitti ise GameState'e bildirilir;
+     * alan boşaldığı anda kazanma olayı oradan tetiklenir.
+     */
+    private void nextWave() {
+        nextWaveAt = -1;
+
         if (currentWaveIndex >= waves.size()) {
-            waitUntilAllEnemiesDead();
+            gameState.markAllWavesSpawned();
             return;
         }
 
         Wave wave = waves.get(currentWaveIndex);
 
         // UI tarafında dalga geri sayımı başlatılır
-        uiManager.startWaveCountdown(wave.getStartDelay(), currentWaveIndex);
+        int waveIndex = currentWaveIndex;
+        Simulation.post(() -> uiManager.startWaveCountdown(wave.getStartDelay(), waveIndex));
         gameState.advanceToNextWave();
         uiManager.updateUI();
 
         // Düşmanları spawn etmeye başla
-        spawnWaveEnemies(wave, uiManager.getOverlayPane(), uiManager);
+        scheduleWave(wave);
         currentWaveIndex++;
     }
 
     /**
-     * Verilen dalgaya göre düşmanları sahneye sırayla ekler.
+     * Verilen dalganın spawn çizelgesini simülasyon saatine yerleştirir.
      */
-    private void spawnWaveEnemies(Wave wave, Pane pane, UIManager uiManager) {
-        List<int[]> pathList = PathUtils.getPathList(map);
-        int tileSize = map.getTileSize();
+    private void scheduleWave(Wave wave) {
+        if (spawns.length == 0) return;
 
-        int totalEnemies = wave.getSlowCount() + wave.getNormalCount() + wave.getFastCount();
+        // Tipler her dalga başında yeniden karıştırılır
+        Wave scheduled = wave.withSchedule(random);
+        spawnOrder = scheduled.getSpawnOrder();
+        spawnTimes = scheduled.getSpawnTimes();
+        nextSpawn = 0;
+        waveStart = clock;
 
-        // Tüm düşman tiplerini dalga ayarına göre sıraya koy
-        List<EnemyType> spawnOrder = new java.util.ArrayList<>();
-        for (int i = 0; i < wave.getSlowCount(); i++) spawnOrder.add(EnemyType.SLOW);
-        for (int i = 0; i < wave.getNormalCount(); i++) spawnOrder.add(EnemyType.NORMAL);
-        for (int i = 0; i < wave.getFastCount(); i++) spawnOrder.add(EnemyType.FAST);
+        // Bir sonraki dalga için otomatik geçiş ayarlanır
+        double lastSpawn = spawnTimes.length > 0 ? spawnTimes[spawnTimes.length - 1] : wave.getStartDelay();
+        nextWaveAt = waveStart + lastSpawn + NEXT_WAVE_DELAY;
+    }
 
-        java.util.Collections.shuffle(spawnOrder); // Düşman sırasını karıştır
+    /**
+     * Tek bir düşmanı bir sonraki spawn noktasında oluşturur ve yola çıkarır.
+     */
+    private void spawnEnemy(EnemyType type) {
+        if (gameState.isGameOver()) return;
 
-        spawnTimeline = new Timeline();
-        spawnTimeline.setCycleCount(totalEnemies);
+        SlimeEnemy slime = EnemyPool.acquire(type);
 
-        final int[] counter = {0};
+        // Birden fazla spawn noktası varsa düşmanlar sırayla dağıtılır
+        int spawnCell = spawns[spawnCounter++ % spawns.length];
 
-        KeyFrame frame = new KeyFrame(Duration.seconds(wave.getDelayBetweenEnemies()), e -> {
+        slime.startOnPath(map, spawnCell, () -> {
             if (gameState.isGameOver()) return;
 
-            EnemyType type = spawnOrder.get(counter[0]);
-            SlimeEnemy slime = new SlimeEnemy(type);
-            counter[0]++;
-
-            PathUtils.attachPathTransition(slime, pathList, tileSize, map, () -> {
-                if (gameState.isGameOver()) return;
-
-                int dmg = slime.getDamage();
-                king.takeDamage(dmg);
-                for (int i = 0; i < dmg; i++) {
-                    gameState.loseLife();
-                }
-
-                // Düşman sahneden kaldırılır
-                Platform.runLater(() -> pane.getChildren().remove(slime.getGroup()));
-                EnemyManager.removeEnemy(slime, pane);
-            });
-
-            // Düşman başlangıç konumunu ayarla
-            int[] first = pathList.get(0);
-            double spacing = map.getGridSpacing();
-            double startX = first[1] * (tileSize + spacing) + tileSize / 2.0 - 20;
-            double startY = first[0] * (tileSize + spacing) + tileSize / 2.0 - 20;
-            slime.getGroup().setTranslateX(startX);
-            slime.getGroup().setTranslateY(startY);
-
-            EnemyManager.addEnemy(slime, pane);
-        });
-
-        spawnTimeline.getKeyFrames().add(frame);
+            int dmg = slime.getDamage();
+            int livesBefore = gameState.getLives();
+            King target = king;
+            if (target != null) Simulation.post(() -> target.takeDamage(dmg, livesBefore));
 
-        // Düşmanlar start delay süresi kadar bekledikten sonra spawn edilmeye başlar
-        startDelayTimeline = new Timeline(new KeyFrame(Duration.seconds(wave.getStartDelay()), ev -> spawnTimeline.play()));
-        startDelayTimeline.play();
+            for (int i = 0; i < dmg; i++) {
+                gameState.loseLife();
+            }
 
-        // Bir sonraki dalga için otomatik geçiş ayarlanır
-        waitForNextWaveTimeline = new Timeline(new KeyFrame(
-                Duration.seconds(wave.getStartDelay() + wave.getDelayBetweenEnemies() * totalEnemies + 2),
-                ev -> nextWave(uiManager)
-        ));
-        waitForNextWaveTimeline.play();
-    }
+            // Düşman listeden kaldırılır; görünümü bir sonraki snapshot'ta sahneden kalkar
+            EnemyManager.removeEnemy(slime);
+            gameState.enemyRemoved();
+        });
 
-    /**
-     * Tüm düşmanların öldüğünü algılamak için döngüsel kontrol başlatır.
-     * Eğer hiç düşman kalmazsa oyunu kazandırır.
-     */
-    private void waitUntilAllEnemiesDead() {
-        Timeline checkEnemies = new Timeline(new KeyFrame(Duration.seconds(0.5), e -> {
-            if (EnemyManager.getActiveEnemies().isEmpty()) {
-                gameState.setGameWon(true);
-            }
-        }));
-        checkEnemies.setCycleCount(Animation.INDEFINITE);
-        checkEnemies.play();
+        EnemyManager.addEnemy(slime);
+        gameState.enemySpawned();
     }
 
     /**
-     * Tüm zamanlayıcıları durdurur. Genellikle oyun durduğunda çağrılır.
+     * Dalga ilerlemesini durdurur. Genellikle oyun durduğunda çağrılır.
      */
     public void stopAllWaves() {
-        if (waveTimeline != null) waveTimeline.stop();
-        if (spawnTimeline != null) spawnTimeline.stop();
-        if (startDelayTimeline != null) startDelayTimeline.stop();
-        if (waitForNextWaveTimeline != null) waitForNextWaveTimeline.stop();
+        stopped = true;
     }
 
     /**
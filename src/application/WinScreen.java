@@ -22,10 +22,13 @@ import javafx.util.Duration;
 public class WinScreen {
     public static Scene openScene(Runnable onNextLevel) {
         // 🎯 Oyun mantığını durdur
-        TowerManager.stop();  // Kuleler ateş etmeyi durdursun
+        GameLoop.stop();  // Kuleler ateş etmeyi durdursun
         TowerManager.clear(); // Sahnedeki kuleler temizlensin
         Game.getCurrentGameState().getWaveManager().stopAllWaves(); // Dalgalar dursun
 
+        // Oyuncu bu ekrandayken sonraki seviye arka planda hazırlanır
+        LevelPreloader.prepare(Game.currentLevel + 1);
+
         VBox pane = new VBox(20);
         HBox pane2 = new HBox(50);
         pane2.setSpacing(3);
@@ -74,7 +77,7 @@ public class WinScreen {
     }
 
     private static void setupClick() {
-        Media media = new Media(WinScreen.class.getResource("/media/Button Sound Effects (Copyright Free) [LVEWkghDh9A] (online-audio-converter.com).mp3").toExternalForm());
+        Media media = AssetCache.media(AssetCache.CLICK_SOUND);
         MediaPlayer clickSound = new MediaPlayer(media);
         clickSound.setStartTime(Duration.seconds(18.8));
         clickSound.setStopTime(Duration.seconds(20));
@@ -0,0 +1,369 @@
+package application;
+
+import application.RenderLayers.Layer;
+import character.EnemyType;
+import character.SlimeView;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import towers.LaserTower;
+import towers.Projectile;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * WorldRenderer, simülasyonun yayınladığı RenderSnapshot'ları sahneye yansıtır.
+ * Yalnızca JavaFX thread'inde, GameLoop'un her pulse'ında çalışır.
+ * - Düşman ve mermiler kimliklerine göre görünümlerle eşlenir; yeni gelenlere görünüm açılır,
+ *   snapshot'ta artık olmayanların görünümü kaldırılıp havuza verilir.
+ * - Lazer ışınları havuzlanmış çizgi çiftleriyle çizilir.
+ * - Havuza dönen görseller katmanlarından çıkarılmaz, park edilir; yeniden kullanıldıklarında aynı
+ *   yuvada gösterilir (RenderLayers). Pulse başına çocuk listesi değişikliği yapılmaz.
+ * - Kule görselleri (namlu açısı, seviye rengi) snapshot'a uydurulur.
+ *
+ * Düşman ve mermi konumları son iki snapshot arasında enterpole edilir: her pulse'ta en yeni
+ * snapshot'ın yayınlanmasından bu yana geçen süre tick süresine oranlanır (alpha). Görüntü bir tick
+ * geriden gelir ama simülasyon 30 Hz'de çalışsa bile 60/120 Hz ekranda hareket akıcıdır.
+ */
+final class WorldRenderer {
+
+    private static final double DASH_SPEED = 100;   // Lazer kesikli çizgisinin kayma hızı (piksel / saniye)
+
+    /**
+     * Sahnedeki bir düşman görünümü, en son görüldüğü render turu ve enterpolasyon uçları.
+     */
+    private static class EnemyEntry {
+        final SlimeView view;
+        long seen;
+        double prevX, prevY;    // Bir önceki snapshot'taki konum
+        double x, y;            // En yeni snapshot'taki konum
+
+        EnemyEntry(SlimeView view) {
+            this.view = view;
+        }
+    }
+
+    /**
+     * Sahnedeki bir mermi dairesi, en son görüldüğü render turu ve enterpolasyon uçları.
+     */
+    private static class ProjectileEntry {
+        final Circle circle;
+        long seen;
+        double prevX, prevY;
+        double x, y;
+
+        ProjectileEntry(Circle circle) {
+            this.circle = circle;
+        }
+    }
+
+    private static final HashMap<Integer, EnemyEntry> enemies = new HashMap<>();
+    private static final HashMap<Integer, Long> killedAt = new HashMap<>();     // Kimlik → öldüğü tick
+    private static final HashMap<Integer, ProjectileEntry> projectiles = new HashMap<>();
+    private static final ArrayDeque<Circle> freeCircles = new ArrayDeque<>();
+    private static final List<Line[]> beamLines = new ArrayList<>();            // {düz, kesikli}
+    private static int shownBeams;
+    private static double dashOffset;
+    private static int dashPulses;                  // Son kesikli çizgi güncellemesinden bu yana pulse
+    private static long pass;                       // Render turu sayacı (görülme damgası)
+    private static long renderedTick = -1;
+
+    private WorldRenderer() {
+    }
+
+    /**
+     * Snapshot'ı sahneye çizer. Yeni bir snapshot geldiyse görünümler eşlenir; her pulse'ta
+     * konumlar alpha'ya göre enterpole edilir ve lazer animasyonu ilerler.
+     *
+     * @param snapshot Simülasyonun yayınladığı en yeni durum
+     * @param layers   Düşman, mermi ve ışınların bulunduğu katmanlar
+     * @param dt       Bir önceki pulse'tan bu yana geçen süre (saniye)
+     */
+    static void render(RenderSnapshot snapshot, RenderLayers layers, double dt) {
+        // Düşük kalitede kesikli çizgi daha seyrek güncellenir (kayma hızı aynı kalır)
+        dashOffset += DASH_SPEED * dt;
+        if (++dashPulses >= QualityGovernor.get().dashInterval) {
+            dashPulses = 0;
+            for (int i = 0; i < shownBeams; i++) {
+                beamLines.get(i)[1].setStrokeDashOffset(dashOffset);
+            }
+        }
+
+        if (snapshot.tick != renderedTick) {
+            renderedTick = snapshot.tick;
+            pass++;
+
+            renderEnemies(snapshot, layers);
+            renderProjectiles(snapshot, layers);
+            renderBeams(snapshot, layers);
+
+            for (int i = 0; i < snapshot.towerCount; i++) {
+                snapshot.towers[i].syncView(snapshot.towerAim[i]);
+            }
+        }
+
+        interpolate(snapshot, alpha(snapshot));
+    }
+
+    /**
+     * En yeni snapshot'tan bu yana geçen sürenin tick süresine oranı [0, 1].
+     */
+    private static double alpha(RenderSnapshot snapshot) {
+        double elapsed = System.nanoTime() - snapshot.capturedAt;
+        return Math.max(0, Math.min(1, elapsed / Simulation.STEP_NANOS));
+    }
+
+    /**
+     * Düşman, mermi ve ışın uçlarını önceki ve en yeni snapshot arasında konumlandırır.
+     */
+    private static void interpolate(RenderSnapshot snapshot, double alpha) {
+        for (EnemyEntry entry : enemies.values()) {
+            entry.view.setPosition(lerp(entry.prevX, entry.x, alpha), lerp(entry.prevY, entry.y, alpha));
+        }
+
+        for (ProjectileEntry entry : projectiles.values()) {
+            entry.circle.setTranslateX(lerp(entry.prevX, entry.x, alpha));
+            entry.circle.setTranslateY(lerp(entry.prevY, entry.y, alpha));
+        }
+
+        for (int i = 0; i < shownBeams; i++) {
+            double endX = snapshot.beamX2[i];
+            double endY = snapshot.beamY2[i];
+            EnemyEntry target = enemies.get(snapshot.beamTargetIds[i]);
+            if (target != null) {
+                endX = lerp(target.prevX, target.x, alpha);
+                endY = lerp(target.prevY, target.y, alpha);
+            }
+            for (Line line : beamLines.get(i)) {
+                line.setEndX(endX);
+                line.setEndY(endY);
+            }
+        }
+    }
+
+    private static double lerp(double from, double to, double alpha) {
+        return from + (to - from) * alpha;
+    }
+
+    private static void renderEnemies(RenderSnapshot snapshot, RenderLayers layers) {
+        // Ölüm olayı snapshot'tan önce gelmiş olabilir; o tick'e ulaşılana kadar eski kayıtlar yok sayılır
+        killedAt.values().removeIf(killTick -> snapshot.tick >= killTick);
+
+        for (int i = 0; i < snapshot.enemyCount; i++) {
+            int id = snapshot.enemyIds[i];
+            EnemyEntry entry = enemies.get(id);
+            if (entry == null) {
+                if (killedAt.containsKey(id)) continue;
+
+                entry = new EnemyEntry(EnemyPool.acquireView(snapshot.enemyTypes[i]));
+                entry.x = snapshot.enemyX[i];
+                entry.y = snapshot.enemyY[i];
+                enemies.put(id, entry);
+                layers.show(Layer.ENEMIES, entry.view.getGroup(), entry.view);
+            }
+            entry.seen = pass;
+            entry.prevX = entry.x;
+            entry.prevY = entry.y;
+            entry.x = snapshot.enemyX[i];
+            entry.y = snapshot.enemyY[i];
+            entry.view.setHealth(snapshot.enemyHealth[i]);
+        }
+
+        // Snapshot'ta artık olmayanlar (krala ulaşanlar) sahneden kalkar
+        Iterator<EnemyEntry> it = enemies.values().iterator();
+        while (it.hasNext()) {
+            EnemyEntry entry = it.next();
+            if (entry.seen == pass) continue;
+
+            it.remove();
+            releaseView(entry.view);
+        }
+    }
+
+    private static void renderProjectiles(RenderSnapshot snapshot, RenderLayers layers) {
+        for (int i = 0; i < snapshot.projectileCount; i++) {
+            ProjectileEntry entry = projectiles.get(snapshot.projectileIds[i]);
+            if (entry == null) {
+                entry = new ProjectileEntry(acquireCircle(snapshot.projectileKinds[i]));
+                entry.x = snapshot.projectileX[i];
+                entry.y = snapshot.projectileY[i];
+                projectiles.put(snapshot.projectileIds[i], entry);
+                layers.show(Layer.PROJECTILES, entry.circle);
+            }
+            entry.seen = pass;
+            entry.prevX = entry.x;
+            entry.prevY = entry.y;
+            entry.x = snapshot.projectileX[i];
+            entry.y = snapshot.projectileY[i];
+        }
+
+        Iterator<ProjectileEntry> it = projectiles.values().iterator();
+        while (it.hasNext()) {
+            ProjectileEntry entry = it.next();
+            if (entry.seen == pass) continue;
+
+            it.remove();
+            RenderLayers.park(entry.circle);
+            freeCircles.push(entry.circle);
+        }
+    }
+
+    /**
+     * Mermi türüne göre biçimlendirilmiş bir daire döndürür (havuzdan veya yeni).
+     */
+    private static Circle acquireCircle(Projectile.Kind kind) {
+        Circle circle = freeCircles.poll();
+        if (circle == null) circle = new Circle();
+
+        switch (kind) {
+            case BULLET -> {
+                circle.setRadius(5);
+                circle.setFill(Color.BLACK);
+            }
+            case SHELL -> {
+                circle.setRadius(6);
+                circle.setFill(Color.ORANGE);
+            }
+            case MISSILE -> {
+                circle.setRadius(6);
+                circle.setFill(Color.DARKSLATEGRAY);
+            }
+        }
+        return circle;
+    }
+
+    private static void renderBeams(RenderSnapshot snapshot, RenderLayers layers) {
+        while (beamLines.size() < snapshot.beamCount) {
+            Line solid = new Line();
+            solid.setStrokeWidth(3);
+            solid.setOpacity(0.75);
+            solid.setMouseTransparent(true);
+
+            Line dash = new Line();
+            dash.setStrokeWidth(2);
+            dash.setOpacity(0.9);
+            dash.getStrokeDashArray().addAll(12.0, 12.0);
+            dash.setMouseTransparent(true);
+
+            beamLines.add(new Line[]{solid, dash});
+        }
+
+        for (int i = 0; i < snapshot.beamCount; i++) {
+            Line[] pair = beamLines.get(i);
+            Color color = LaserTower.getLaserColorByLevel(snapshot.beamLevels[i]);
+            pair[0].setStroke(color.darker());
+            pair[1].setStroke(color.brighter());
+            pair[1].setStrokeDashOffset(dashOffset);
+
+            for (Line line : pair) {
+                line.setStartX(snapshot.beamX1[i]);
+                line.setStartY(snapshot.beamY1[i]);
+                if (i >= shownBeams) layers.show(Layer.EFFECTS, line);
+            }
+        }
+
+        for (int i = snapshot.beamCount; i < shownBeams; i++) {
+            for (Line line : beamLines.get(i)) {
+                RenderLayers.park(line);
+            }
+        }
+        shownBeams = snapshot.beamCount;
+    }
+
+    /**
+     * Sahnede her pulse güncellenmesi gereken (hareketli) bir görsel kalmadı mı?
+     */
+    static boolean isIdle() {
+        return enemies.isEmpty() && projectiles.isEmpty() && shownBeams == 0;
+    }
+
+    /**
+     * Simülasyonda ölen bir düşmanın ölüm animasyonunu oynatır ve görünümünü havuza verir.
+     * Simulation.post() ile gelen olaylardan çağrılır.
+     *
+     * @param id    Düşman kimliği
+     * @param type  Düşman tipi (görünümü hiç çizilmediyse)
+     * @param laser Lazerle mi öldü? (ayrı ölüm görseli ışın ucunda oynatılır)
+     * @param x     Ölüm konumu
+     * @param y     Ölüm konumu
+     * @param tick   Ölümün gerçekleştiği tick
+     * @param layers Görünümün ve ölüm görselinin çizileceği katmanlar
+     */
+    static void enemyKilled(int id, EnemyType type, boolean laser, double x, double y, long tick, RenderLayers layers) {
+        killedAt.put(id, tick);
+
+        EnemyEntry entry = enemies.remove(id);
+        SlimeView view;
+        if (entry != null) {
+            view = entry.view;
+        } else {
+            // Daha hiç çizilmeden öldü → ölüm animasyonu için bir görünüm açılır
+            view = EnemyPool.acquireView(type);
+            layers.show(Layer.ENEMIES, view.getGroup(), view);
+        }
+        view.setPosition(x, y);
+
+        // Işın ucundaki ek ölüm görseli kozmetiktir; düşük kalitede atlanır
+        if (laser && QualityGovernor.get().cosmeticDeaths) {
+            view.hideSprite();
+            SlimeView.playDeathAnimationAt(x, y, layers.pane(Layer.EFFECTS), view);
+        }
+
+        SlimeView dying = view;
+        view.playDeath(() -> {
+            releaseView(dying);
+        });
+    }
+
+    /**
+     * Düşman görünümünü park edip havuza verir; havuz doluysa katmandan tamamen çıkarır.
+     */
+    private static void releaseView(SlimeView view) {
+        Node group = view.getGroup();
+        RenderLayers.park(group);
+        if (!EnemyPool.releaseView(view) && group.getParent() instanceof Pane layer) {
+            layer.getChildren().remove(group);
+        }
+    }
+
+    /**
+     * Kamera tarafından gizlenen düşmanların sprite animasyonunu dondurur, görünenleri sürdürür.
+     */
+    static void updateOnScreen(Camera camera) {
+        for (EnemyEntry entry : enemies.values()) {
+            entry.view.setOnScreen(!camera.isCulled(entry.view.getGroup()));
+        }
+    }
+
+    /**
+     * Tüm düşman, mermi ve ışın görsellerini gizleyip havuza verir. Simülasyon durduktan sonra çağrılır.
+     * Görseller bir sonraki seviyede yeni katmanlara taşınır.
+     */
+    static void clear() {
+        for (EnemyEntry entry : enemies.values()) {
+            releaseView(entry.view);
+        }
+        enemies.clear();
+        killedAt.clear();
+
+        for (ProjectileEntry entry : projectiles.values()) {
+            RenderLayers.park(entry.circle);
+            freeCircles.push(entry.circle);
+        }
+        projectiles.clear();
+
+        for (int i = 0; i < shownBeams; i++) {
+            for (Line line : beamLines.get(i)) {
+                RenderLayers.park(line);
+            }
+        }
+        shownBeams = 0;
+        renderedTick = -1;
+    }
+}
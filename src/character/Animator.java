@@ -1,7 +1,10 @@
 package character;
 
+import java.util.HashMap;
 import java.util.List;
 
+import application.LeakDetector;
+import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.geometry.Rectangle2D;
@@ -12,17 +15,22 @@ import javafx.util.Duration;
 /**
  * Animator sınıfı, sprite sheet (birden fazla kare içeren tek resim) kullanarak
  * karakter veya nesne animasyonlarını kare kare oynatır.
+ * Sheet bir atlasın parçası olabilir; kareler SpriteSheet'in başlangıç noktasına göre seçilir.
  */
 public class Animator {
     private final ImageView imageView;       // Animasyonun gösterileceği görsel nesne
     private Timeline animationTimeline;      // Kare geçişleri için zamanlayıcı
-    private final int frameWidth;            // Her bir karenin genişliği
-    private final int frameHeight;           // Her bir karenin yüksekliği
-    private final int framesPerRow;          // Sprite sheet'teki satır başına kare sayısı
+    private int originX, originY;            // Sheet'in görsel (atlas) içindeki başlangıç noktası
+    private int frameWidth;                  // Her bir karenin genişliği
+    private int frameHeight;                 // Her bir karenin yüksekliği
+    private int framesPerRow;                // Sprite sheet'teki satır başına kare sayısı
 
     private List<Integer> frameSequence;     // Oynatılacak karelerin sırası (örneğin [0,1,2,3])
     private int currentFrameIndex = 0;       // Şu an gösterilen kare
 
+    // Kare sırası başına bir Timeline; aynı animasyon tekrar oynatıldığında yeniden oluşturulmaz
+    private final HashMap<List<Integer>, Timeline> timelines = new HashMap<>();
+
     /**
      * Yeni bir Animator nesnesi oluşturur.
      *
@@ -32,12 +40,41 @@ public class Animator {
      * @param framesPerRow    Sprite sheet'teki yatay kare sayısı
      */
     public Animator(String spriteSheetPath, int frameWidth, int frameHeight, int framesPerRow) {
-        this.imageView = new ImageView(new Image(spriteSheetPath, false)); // önbelleğe alma kapalı
-        this.imageView.setViewport(new Rectangle2D(0, 0, frameWidth, frameHeight)); // ilk kareyi göster
+        this(new Image(spriteSheetPath, false), frameWidth, frameHeight, framesPerRow); // önbelleğe alma kapalı
+    }
+
+    /**
+     * Önceden yüklenmiş bir sprite sheet ile Animator oluşturur (arka planda yüklenen görseller için).
+     *
+     * @param spriteSheet  Yüklenmiş sprite sheet
+     * @param frameWidth   Her bir karenin piksel cinsinden genişliği
+     * @param frameHeight  Her bir karenin yüksekliği
+     * @param framesPerRow Sprite sheet'teki yatay kare sayısı
+     */
+    public Animator(Image spriteSheet, int frameWidth, int frameHeight, int framesPerRow) {
+        this(new SpriteSheet(spriteSheet, frameWidth, frameHeight, framesPerRow));
+    }
 
-        this.frameWidth = frameWidth;
-        this.frameHeight = frameHeight;
-        this.framesPerRow = framesPerRow;
+    /**
+     * Bir sprite sheet (veya atlas bölgesi) ile Animator oluşturur.
+     */
+    public Animator(SpriteSheet sheet) {
+        this.imageView = new ImageView();
+        setSheet(sheet);
+    }
+
+    /**
+     * Gösterilen sprite sheet'i değiştirir ve ilk kareye döner (havuzdan yeniden kullanılan görseller için).
+     */
+    public void setSheet(SpriteSheet sheet) {
+        this.originX = sheet.getOriginX();
+        this.originY = sheet.getOriginY();
+        this.frameWidth = sheet.getFrameWidth();
+        this.frameHeight = sheet.getFrameHeight();
+        this.framesPerRow = sheet.getFramesPerRow();
+
+        imageView.setImage(sheet.getImage());
+        imageView.setViewport(new Rectangle2D(originX, originY, frameWidth, frameHeight)); // ilk kareyi göster
     }
 
     /**
@@ -72,9 +109,19 @@ public class Animator {
         this.frameSequence = frameSequence;
         this.currentFrameIndex = 0;
 
-        animationTimeline = new Timeline(new KeyFrame(Duration.millis(speedMillis), e -> updateFrame()));
-        animationTimeline.setCycleCount(loop ? Timeline.INDEFINITE : frameSequence.size());
-        animationTimeline.play();
+        int cycles = loop ? Timeline.INDEFINITE : frameSequence.size();
+        Duration frameTime = Duration.millis(speedMillis);
+        Timeline timeline = timelines.get(frameSequence);
+        if (timeline == null || timeline.getCycleCount() != cycles
+                || !timeline.getKeyFrames().get(0).getTime().equals(frameTime)) {
+            timeline = new Timeline(new KeyFrame(frameTime, e -> updateFrame()));
+            timeline.setCycleCount(cycles);
+            timelines.put(frameSequence, timeline);
+        }
+
+        animationTimeline = timeline;
+        animationTimeline.playFromStart();
+        LeakDetector.track(animationTimeline, this);
     }
 
     /**
@@ -86,14 +133,32 @@ public class Animator {
         int row = frameNumber / framesPerRow;
         int col = frameNumber % framesPerRow;
 
-        int x = col * frameWidth;
-        int y = row * frameHeight;
+        int x = originX + col * frameWidth;
+        int y = originY + row * frameHeight;
 
         imageView.setViewport(new Rectangle2D(x, y, frameWidth, frameHeight));
 
         currentFrameIndex = (currentFrameIndex + 1) % frameSequence.size();
     }
 
+    /**
+     * Animasyonu bulunduğu karede dondurur (örn. kamera dışındayken).
+     */
+    public void pause() {
+        if (animationTimeline != null) {
+            animationTimeline.pause();
+        }
+    }
+
+    /**
+     * Dondurulmuş animasyonu kaldığı yerden sürdürür.
+     */
+    public void resume() {
+        if (animationTimeline != null && animationTimeline.getStatus() == Animation.Status.PAUSED) {
+            animationTimeline.play();
+        }
+    }
+
     /**
      * Şu anda oynayan animasyonu durdurur.
      */
@@ -3,10 +3,10 @@ package character;
 import java.util.List;
 import java.util.Random;
 
-import application.Game;
-import application.GameState;
+import application.LeakDetector;
 import javafx.animation.PauseTransition;
 import javafx.scene.control.Label;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.text.Font;
 import javafx.util.Duration;
@@ -44,7 +44,16 @@ public class King {
      * @param fullSheet Sprite sheet yolu
      */
     public King(String fullSheet) {
-        animator = new Animator(fullSheet, 64, 64, 4);
+        this(new SpriteSheet(new Image(fullSheet, false), 64, 64, 4));
+    }
+
+    /**
+     * Önceden yüklenmiş sprite sheet (veya atlas bölgesi) ile King oluşturur.
+     *
+     * @param fullSheet 64x64 karelik, satırda 4 kare içeren sheet
+     */
+    public King(SpriteSheet fullSheet) {
+        animator = new Animator(fullSheet);
         view = animator.getImageView();
         playIdle();  // Başlangıçta idle animasyon başlatılır
 
@@ -76,12 +85,15 @@ public class King {
     /**
      * Belirtilen hasar alınır. Can sıfırın altına inerse kalıcı olarak ölür.
      * Aksi halde rastgele bir alaycı cümle gösterilir.
+     * Can simülasyon thread'inde düşer; bu yüzden hasar öncesi can değeri olayla birlikte gelir.
+     *
+     * @param damage      Alınan hasar
+     * @param livesBefore Hasardan önceki can
      */
-    public void takeDamage(int damage) {
+    public void takeDamage(int damage, int livesBefore) {
         if (isDead || permanentlyDead) return;
 
-        GameState state = Game.getCurrentGameState();
-        if (state != null && state.getLives() - damage <= 0) {
+        if (livesBefore - damage <= 0) {
             dieForever();
         } else {
             showRandomQuote();
@@ -100,6 +112,7 @@ public class King {
         PauseTransition pause = new PauseTransition(Duration.seconds(2.5));
         pause.setOnFinished(e -> quoteLabel.setVisible(false));
         pause.play();
+        LeakDetector.trackTransient(pause);
     }
 
     /**
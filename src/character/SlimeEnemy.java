@@ -1,41 +1,50 @@
 package character;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.PathTransition;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
-import javafx.geometry.Bounds;
-import javafx.geometry.Point2D;
-import javafx.scene.Group;
-import javafx.scene.image.ImageView;
-import javafx.scene.layout.Pane;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
-
-import java.util.List;
-
-import application.ExplosionEffect;
-import application.Game;
-import application.GameState;
+import application.Map;
+import application.PathNetwork;
 
 /**
- * SlimeEnemy sınıfı, oyundaki düşmanları temsil eder.
- * Her düşman tipi (slow, normal, fast) farklı can, hız ve animasyonla gelir.
- * Bu sınıf, düşmanın görüntüsü, sağlık durumu, animasyonu ve ölüm davranışlarını içerir.
+ * SlimeEnemy sınıfı, oyundaki düşmanların oyun mantığını temsil eder.
+ * Her düşman tipi (slow, normal, fast) farklı can ve hızla gelir.
+ * Bu sınıf düşmanın konumunu, sağlık durumunu ve yol üzerindeki hareketini içerir;
+ * sahne düğümü yoktur. Görünüm SlimeView'dadır ve render snapshot'larından beslenir.
+ *
+ * Modeller simülasyon thread'ine aittir; başka thread'lerden okunmamalıdır.
+ *
+ * Nesneler EnemyPool üzerinden yeniden kullanılır. Her geri dönüşümde "generation" artar;
+ * bir düşmana uzun süre referans tutan kod (mermiler, gecikmeli callback'ler) isAlive(generation)
+ * ile hâlâ aynı düşmanı gördüğünü doğrulamalıdır.
  */
 public class SlimeEnemy {
-    private final Animator animator;
-    private final ImageView view;
-    private final Rectangle healthBar;
-    private final Group group;
+    private static final double BASE_SPEED = 100.0;            // Referans hız
+    private static final double BASE_DURATION_PER_TILE = 0.5;  // Referans hızda bir hücre süresi (sn)
+    private static final double EXIT_OVERSHOOT = 0.12;         // Çıkıştan sonra "yol bitmiş gibi" ilerleme (hücre)
+    private static final int BASE_FRAME_SIZE = 32;             // Sprite karesinin ölçeksiz kenarı
+    private static final double HIT_RADIUS_RATIO = 0.25;       // Gövde, karenin yaklaşık yarısını kaplar
+
+    private static int nextId = 1;          // Görünümleri eşlemek için spawn başına benzersiz kimlik
+
     private final EnemyType type;
     private final int maxHp;
     private final int speed;
+    private final double size;              // Ölçekli kare kenarı (SlimeView ile aynı)
 
+    private int id;
     private int hp;
     private boolean isDead = false;
-    private PathTransition pathTransition;
+    private int generation = 0;             // Havuza her dönüşte artar
+
+    // --- Yol üzerindeki hareket durumu ---
+    private Map map;
+    private PathNetwork network;
+    private Runnable onReachedEnd;
+    private double velocity;                // piksel / saniye
+    private double pitch;                   // Hücre merkezleri arası mesafe
+    private int toCell;                     // Şu an gidilen hücre (-1 → çıkış sonrası son parça)
+    private int step = -1;                  // Mevcut parçanın PathNetwork adım kimliği (-1 → spawn / çıkış sonrası)
+    private double fromX, fromY, toX, toY;  // Mevcut parçanın uç noktaları (hücre merkezleri)
+    private double segmentLength, progress;
+    private double x, y;                    // Düşman merkezinin overlay'deki konumu
 
     /**
      * Yeni bir slime düşmanı oluşturur.
@@ -46,149 +55,235 @@ public class SlimeEnemy {
         this.hp = type.hp;
         this.maxHp = type.hp;
         this.speed = type.speed;
+        this.size = Math.round(BASE_FRAME_SIZE * type.scale);
+        this.id = nextId++;
+    }
 
-        String spriteFileName = type.getRandomSpritePath();
-        String fullPath = getClass().getResource(spriteFileName).toExternalForm();
-
-        animator = new Animator(fullPath, 32, 32, 8);
-        view = animator.getImageView();
-        view.setScaleX(type.scale);
-        view.setScaleY(type.scale);
+    /**
+     * Havuzdan alınan düşmanı yeni doğmuş hale getirir. Yeni bir kimlik alır;
+     * böylece eski görünümü yeni spawn ile karışmaz.
+     */
+    public void reset() {
+        id = nextId++;
+        hp = maxHp;
+        isDead = false;
+    }
 
-        healthBar = new Rectangle(32, 4, Color.LIMEGREEN);
-        healthBar.setTranslateY(-20);
+    /**
+     * Düşman havuza dönerken çağrılır. Yol bağlantıları bırakılır ve generation artar;
+     * eski referanslar artık bu düşmanı canlı görmez.
+     */
+    public void recycle() {
+        generation++;
+        isDead = true;
+        map = null;
+        network = null;
+        onReachedEnd = null;
+    }
 
-        group = new Group(view, healthBar);
-        playIdle();
+    /**
+     * Havuzda her yeniden kullanımda artan sayaç.
+     */
+    public int getGeneration() {
+        return generation;
     }
 
     /**
-     * Slime'ın idle (boşta) animasyonunu başlatır.
+     * Düşman, generation değeri alındığı andaki haliyle hâlâ hayatta mı?
+     *
+     * @param expectedGeneration Referans alınırken okunan getGeneration() değeri
      */
-    public void playIdle() {
-        animator.playAnimation(List.of(
-            0, 1, 2, 3,
-            8, 9,
-            16, 17, 18, 19, 20, 21, 22, 23,
-            24, 25, 26, 27, 28, 29, 30, 31,
-            32, 33
-        ), 150);
+    public boolean isAlive(int expectedGeneration) {
+        return generation == expectedGeneration && !isDead();
     }
 
     /**
-     * Slime ölüm animasyonunu başlatır ve bitince callback çağırır.
-     * @param onDeathComplete Ölüm tamamlandığında çağrılacak kod
+     * Düşmanı yol ağına yerleştirir. Hareket simülasyon tarafından her tick'te move() ile ilerletilir.
+     *
+     * @param map          Harita (hücre geometrisi ve yol ağı için)
+     * @param spawnCell    Başlangıç hücresi (row * width + col)
+     * @param onReachedEnd Düşman çıkışa ulaştığında çalışacak callback
      */
-    public void playDeath(Runnable onDeathComplete) {
-        List<Integer> deathFrames = List.of(48, 49, 56, 57);
-        animator.playAnimation(deathFrames, 150);
-        Timeline wait = new Timeline(new KeyFrame(Duration.seconds(0.6), e -> onDeathComplete.run()));
-        wait.play();
+    public void startOnPath(Map map, int spawnCell, Runnable onReachedEnd) {
+        this.map = map;
+        this.network = map.getPathNetwork();
+        this.onReachedEnd = onReachedEnd;
+        this.pitch = map.getTileSize() + map.getGridSpacing();
+
+        // Hız: referans hızda her hücre 0.5 sn sürer (eski PathTransition ile aynı tempo)
+        this.velocity = pitch * speed / (BASE_SPEED * BASE_DURATION_PER_TILE);
+
+        double cx = map.cellCenterX(map.cellCol(spawnCell));
+        double cy = map.cellCenterY(map.cellRow(spawnCell));
+        beginSegment(cx, cy, cx, cy, -1, spawnCell);
+        applyPosition();
     }
 
     /**
-     * Slime'a hasar uygular. Öldüyse animasyon, para, efekt gibi sonuçları tetikler.
+     * Düşmanı yol üzerinde dt saniye kadar ilerletir.
+     * Hücre merkezine varıldığında sonraki hücre PathNetwork'ten O(1) seçilir.
      *
-     * @param damage Verilen hasar
-     * @param giveReward Para verilip verilmeyeceği
-     * @param isLaserKill Lazer ile mi öldürüldü?
-     * @param deathX Ölüm animasyonunun x konumu (sahneye göre)
-     * @param deathY Ölüm animasyonunun y konumu (sahneye göre)
-     * @param onDeathComplete Ölüm sonrası yapılacak işlemler
+     * @param dt Geçen süre (saniye)
+     * @return Düşman bu adımda yolun sonuna ulaştıysa true
      */
-    public void takeDamage(double damage, boolean giveReward, boolean isLaserKill, double deathX, double deathY, Runnable onDeathComplete) {
-        if (isDead) return;
+    public boolean move(double dt) {
+        if (isDead || network == null) return false;
+
+        double step = velocity * dt;
+        while (step > 0) {
+            double left = segmentLength - progress;
+            if (step < left) {
+                progress += step;
+                break;
+            }
 
-        hp -= damage;
-        double newWidth = ((double) hp / maxHp) * 32;
-        healthBar.setWidth(Math.max(0, newWidth));
+            step -= left;
+            progress = segmentLength;
 
-        if (hp <= 0) {
-            isDead = true;
+            if (toCell < 0) {
+                applyPosition();
+                return true;    // Çıkış sonrası son parça da bitti
+            }
 
-            // Hareketi durdur
-            if (pathTransition != null) {
-                pathTransition.stop();
-                pathTransition = null;
+            int next = network.isExit(toCell) ? -1 : network.nextStep(toCell);
+            if (next < 0) {
+                // Çıkışa varıldı → hareket yönünde biraz daha ilerle
+                double dx = segmentLength > 0 ? (toX - fromX) / segmentLength : 0;
+                double dy = segmentLength > 0 ? (toY - fromY) / segmentLength : 0;
+                beginSegment(toX, toY, toX + dx * pitch * EXIT_OVERSHOOT, toY + dy * pitch * EXIT_OVERSHOOT, toCell, -1);
+            } else {
+                beginSegment(toX, toY, map.cellCenterX(map.cellCol(next)), map.cellCenterY(map.cellRow(next)), toCell, next);
             }
+        }
 
-            // Ödül ver
-            if (giveReward) {
-                GameState gameState = Game.getCurrentGameState();
-                if (gameState != null) {
-                    gameState.addMoneyForKill(type.reward);
-                }
+        applyPosition();
+        return false;
+    }
+
+    /**
+     * Düşmanın şu anki hızıyla yolda kalırsa verilen süre sonra nerede olacağını hesaplar.
+     * Durum değişmez; çatal noktalarında PathNetwork.peekStep() ile ilk seçenek varsayılır.
+     *
+     * @param seconds İleriye bakılacak süre
+     * @param out     {x, y} yazılacak dizi
+     */
+    public void predictPosition(double seconds, double[] out) {
+        if (isDead || network == null) {
+            out[0] = x;
+            out[1] = y;
+            return;
+        }
+
+        double x0 = fromX, y0 = fromY, x1 = toX, y1 = toY;
+        double length = segmentLength, at = progress;
+        int cell = toCell;
+
+        double step = velocity * seconds;
+        while (step > 0) {
+            double left = length - at;
+            if (step < left) {
+                at += step;
+                break;
             }
 
-            if (isLaserKill) {
-                // Lazerle öldüyse → sprite'ı gizle, özel animasyon
-                view.setVisible(false);
-                Platform.runLater(() -> {
-                    if (group.getParent() instanceof Pane parentPane) {
-                        playDeathAnimationAt(deathX, deathY, parentPane, this);
-                    }
-                });
+            step -= left;
+            at = length;
+            if (cell < 0) break;    // Çıkış sonrası son parçanın sonu
+
+            int next = network.isExit(cell) ? -1 : network.peekStep(cell);
+            double nx, ny;
+            if (next < 0) {
+                double dx = length > 0 ? (x1 - x0) / length : 0;
+                double dy = length > 0 ? (y1 - y0) / length : 0;
+                nx = x1 + dx * pitch * EXIT_OVERSHOOT;
+                ny = y1 + dy * pitch * EXIT_OVERSHOOT;
+            } else {
+                nx = map.cellCenterX(map.cellCol(next));
+                ny = map.cellCenterY(map.cellRow(next));
             }
 
-            // Patlama efekti burada YOK → kuleden çağrılacak
-            playDeath(onDeathComplete);
+            x0 = x1;
+            y0 = y1;
+            x1 = nx;
+            y1 = ny;
+            cell = next;
+            at = 0;
+            length = Math.sqrt((x1 - x0) * (x1 - x0) + (y1 - y0) * (y1 - y0));
         }
-    }
 
+        double t = length > 0 ? at / length : 1;
+        out[0] = x0 + (x1 - x0) * t;
+        out[1] = y0 + (y1 - y0) * t;
+    }
 
     /**
-     * Geriye dönük uyum için basit hasar verme versiyonu.
+     * Yolun sonuna ulaşıldığında kayıtlı callback'i çalıştırır.
+     * Düşman listesi üzerinde dönülürken değil, döngü bittikten sonra çağrılmalıdır.
      */
-    public void takeDamage(double damage, boolean giveReward, Runnable onDeathComplete) {
-        takeDamage(damage, giveReward, false, getSceneCenter().getX(), getSceneCenter().getY(), onDeathComplete);
+    public void reachEnd() {
+        network = null;
+        if (onReachedEnd != null && !isDead) {
+            onReachedEnd.run();
+        }
     }
 
     /**
-     * Varsayılan olarak ödül verir ve pozisyonu merkezden alır.
+     * Çıkışa kalan yol mesafesi (piksel). Kuleler hedefleri buna göre sıralayabilir.
      */
-    public void takeDamage(double damage, Runnable onDeathComplete) {
-        takeDamage(damage, true, false, getSceneCenter().getX(), getSceneCenter().getY(), onDeathComplete);
+    public double getRemainingDistance() {
+        if (network == null) return 0;
+
+        double rest = segmentLength - progress;
+        if (toCell < 0) return rest;
+        return rest + network.distanceToExit(toCell) * pitch + pitch * EXIT_OVERSHOOT;
     }
 
-    /**
-     * Düşmanın sahnedeki merkez koordinatını döndürür.
-     * @return Sahne merkez noktası
-     */
-    public Point2D getSceneCenter() {
-        Bounds bounds = group.localToScene(group.getBoundsInLocal());
-        return new Point2D(
-            bounds.getMinX() + bounds.getWidth() / 2,
-            bounds.getMinY() + bounds.getHeight() / 2
-        );
+    private void beginSegment(double x0, double y0, double x1, double y1, int sourceCell, int targetCell) {
+        fromX = x0;
+        fromY = y0;
+        toX = x1;
+        toY = y1;
+        toCell = targetCell;
+        progress = 0;
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        segmentLength = Math.sqrt(dx * dx + dy * dy);
+        step = segmentLength > 0 ? network.findStep(sourceCell, targetCell) : -1;
+    }
+
+    private void applyPosition() {
+        double t = segmentLength > 0 ? progress / segmentLength : 1;
+        x = fromX + (toX - fromX) * t;
+        y = fromY + (toY - fromY) * t;
     }
 
     /**
-     * Ölüm animasyonunu sahnede belirtilen yerde başlatır.
+     * Slime'a hasar uygular.
+     * Ölüm sonrası ödül, efekt ve kaldırma işlemleri DamageSystem tarafından toplu yapılır.
+     *
+     * @param damage Bu tick içinde toplanan hasar
+     * @return Slime bu hasarla öldüyse true
      */
-    public static void playDeathAnimationAt(double x, double y, Pane parent, SlimeEnemy source) {
-        Animator deathAnimator = new Animator(
-            source.animator.getImageView().getImage().getUrl(),
-            32, 32, 8
-        );
-        ImageView view = deathAnimator.getImageView();
-        view.setScaleX(source.type.scale);
-        view.setScaleY(source.type.scale);
-
-        deathAnimator.playAnimation(List.of(48, 49, 56, 57), 150, false);
-
-        view.setLayoutX(x - 16);
-        view.setLayoutY(y - 16);
-
-        parent.getChildren().add(view);
+    public boolean applyDamage(double damage) {
+        if (isDead) return false;
 
-        Timeline cleanup = new Timeline(new KeyFrame(Duration.seconds(0.6), e -> {
-            parent.getChildren().remove(view);
-        }));
-        cleanup.play();
+        hp -= damage;
+        if (hp <= 0) {
+            isDead = true;  // Hareket move() içinde kendiliğinden durur
+            return true;
+        }
+        return false;
     }
 
     // Getter & Setters
 
+    /**
+     * Spawn başına benzersiz kimlik; render tarafında görünümle eşleştirmek için kullanılır.
+     */
+    public int getId() {
+        return id;
+    }
+
     public EnemyType getType() {
         return type;
     }
@@ -197,22 +292,64 @@ public class SlimeEnemy {
         return type.damage;
     }
 
-    public Group getGroup() {
-        return group;
-    }
-
     public int getHp() {
         return hp;
     }
 
+    /**
+     * Kalan can oranı (can barı için).
+     */
+    public double getHealthFraction() {
+        return Math.max(0, (double) hp / maxHp);
+    }
+
+    /**
+     * İsabet yarıçapı (piksel): mermiler merkeze bu mesafeden yakınsa düşmana çarpmış sayılır.
+     * Ölçekli sprite boyutundan türetilir; büyük slime'lar daha kolay vurulur.
+     */
+    public double getHitRadius() {
+        return size * HIT_RADIUS_RATIO;
+    }
+
+    /**
+     * Üzerinde bulunulan yol adımının kimliği (PathNetwork); spawn anında ve çıkış sonrası parçada -1.
+     */
+    public int getStep() {
+        return isDead || network == null ? -1 : step;
+    }
+
+    /**
+     * Mevcut adımın başından bu yana alınan yol (piksel).
+     */
+    public double getStepProgress() {
+        return progress;
+    }
+
+    /**
+     * Yol üzerindeki hareket hızı (piksel / saniye).
+     */
+    public double getVelocity() {
+        return velocity;
+    }
+
+    /**
+     * Yalnızca okur; hedef seçimi sırasında birden fazla thread'den çağrılabilir.
+     */
     public boolean isDead() {
-        if (hp <= 0) {
-            isDead = true;
-        }
-        return isDead;
+        return isDead || hp <= 0;
     }
 
-    public void setPathTransition(PathTransition transition) {
-        this.pathTransition = transition;
+    /**
+     * Düşman merkezinin overlay'deki X konumu.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Düşman merkezinin overlay'deki Y konumu.
+     */
+    public double getY() {
+        return y;
     }
 }
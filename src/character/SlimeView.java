@@ -0,0 +1,209 @@
+package character;
+
+import application.LeakDetector;
+import application.SpriteAtlas;
+import javafx.animation.PauseTransition;
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * SlimeView, bir slime düşmanının sahnedeki görünümüdür: sprite animasyonu, can barı ve ölüm animasyonu.
+ * Oyun mantığı (konum, can, hareket) SlimeEnemy modelindedir ve simülasyon thread'inde çalışır;
+ * bu sınıf yalnızca JavaFX thread'inde, yayınlanan render snapshot'larına göre güncellenir.
+ *
+ * Görünümler EnemyPool üzerinden düşman tipi başına yeniden kullanılır.
+ */
+public class SlimeView {
+    private static final double DEATH_DURATION = 0.6;          // Ölüm animasyonu süresi (sn)
+    private static final int MAX_POOLED_DEATH_VISUALS = 64;
+    private static final double HEALTH_BAR_WIDTH = 32;
+    private static final double HEALTH_BAR_HEIGHT = 4;
+    private static final double HEALTH_BAR_GAP = 2;            // Can barı ile sprite üstü arası
+
+    private static final List<Integer> IDLE_FRAMES = List.of(
+        0, 1, 2, 3,
+        8, 9,
+        16, 17, 18, 19, 20, 21, 22, 23,
+        24, 25, 26, 27, 28, 29, 30, 31,
+        32, 33
+    );
+    private static final List<Integer> DEATH_FRAMES = List.of(48, 49, 56, 57);
+
+    // Lazer ölümlerinde ışın ucunda oynatılan ayrı ölüm görselleri (yeniden kullanılır)
+    private static final ArrayDeque<Animator> deathVisualPool = new ArrayDeque<>();
+
+    private final EnemyType type;
+    private final SpriteSheet sheet;        // Tipe göre önceden ölçeklenmiş kareler
+    private final double size;              // Ölçekli kare kenarı (piksel)
+    private final Animator animator;
+    private final ImageView view;
+    private final Rectangle healthBar;
+    private final Group group;
+
+    private double shownHealth = 1;         // Can barında gösterilen oran
+    private boolean onScreen = true;        // Kamera görüş alanında mı?
+    private int generation = 0;             // Havuza her dönüşte artar
+    private PauseTransition deathDelay;     // Ölüm animasyonu beklemesi (tekrar kullanılır)
+
+    /**
+     * Verilen tip için yeni bir görünüm oluşturur. JavaFX thread'inde çağrılmalıdır.
+     */
+    public SlimeView(EnemyType type) {
+        this.type = type;
+
+        // Ölçekli kareler atlasın bir bölgesidir; ImageView dönüşümsüz 1:1 çizilir
+        sheet = SpriteAtlas.get().scaled(type.getRandomSpritePath(), type.scale);
+        size = sheet.getFrameWidth();
+        animator = new Animator(sheet);
+        view = animator.getImageView();
+
+        // Can barı ölçekli sprite'ın üstünde ortalanır
+        healthBar = new Rectangle(HEALTH_BAR_WIDTH, HEALTH_BAR_HEIGHT, Color.LIMEGREEN);
+        healthBar.setTranslateX((size - HEALTH_BAR_WIDTH) / 2);
+        healthBar.setTranslateY(-HEALTH_BAR_HEIGHT - HEALTH_BAR_GAP);
+
+        group = new Group(view, healthBar);
+        playIdle();
+    }
+
+    /**
+     * Havuzdan alınan görünümü yeni doğmuş hale getirir.
+     */
+    public void reset() {
+        shownHealth = 1;
+        onScreen = true;
+        healthBar.setWidth(HEALTH_BAR_WIDTH);
+        view.setVisible(true);
+        group.setVisible(true);
+        playIdle();
+    }
+
+    /**
+     * Görünüm havuza dönerken çağrılır. Animasyonlar durur; bekleyen ölüm callback'i artık çalışmaz.
+     */
+    public void recycle() {
+        generation++;
+        animator.stopAnimation();
+        if (deathDelay != null) deathDelay.stop();
+    }
+
+    /**
+     * Sprite merkezini overlay'de verilen konuma taşır.
+     */
+    public void setPosition(double x, double y) {
+        group.setTranslateX(x - size / 2);
+        group.setTranslateY(y - size / 2);
+    }
+
+    /**
+     * Can barını verilen orana göre günceller (değişmediyse düğüme dokunulmaz).
+     *
+     * @param fraction Kalan can / en yüksek can
+     */
+    public void setHealth(double fraction) {
+        if (fraction == shownHealth) return;
+        shownHealth = fraction;
+        healthBar.setWidth(Math.max(0, fraction) * HEALTH_BAR_WIDTH);
+    }
+
+    /**
+     * Slime'ın idle (boşta) animasyonunu başlatır.
+     */
+    public void playIdle() {
+        animator.playAnimation(IDLE_FRAMES, 150);
+    }
+
+    /**
+     * Slime ölüm animasyonunu başlatır ve bitince callback çağırır.
+     * Görünüm bu arada havuza dönüp yeniden kullanıldıysa callback çalışmaz.
+     *
+     * @param onDeathComplete Ölüm tamamlandığında çağrılacak kod
+     */
+    public void playDeath(Runnable onDeathComplete) {
+        animator.playAnimation(DEATH_FRAMES, 150);
+
+        if (deathDelay == null) deathDelay = new PauseTransition(Duration.seconds(DEATH_DURATION));
+        int expected = generation;
+        deathDelay.setOnFinished(e -> {
+            if (generation == expected) onDeathComplete.run();
+        });
+        deathDelay.playFromStart();
+
+        // Görünüm, sprite animasyonu ve bekleme ölüm süresi içinde havuza dönmeli
+        LeakDetector.track(deathDelay, this);
+        LeakDetector.ownerDied(this);
+        LeakDetector.ownerDied(animator);
+    }
+
+    /**
+     * Sprite'ı gizler (lazer ölümünde ayrı ölüm animasyonu oynatılır).
+     */
+    public void hideSprite() {
+        view.setVisible(false);
+    }
+
+    /**
+     * Kamera görüş alanına girip çıktığında çağrılır.
+     * Ekran dışındayken sprite animasyonu dondurulur; simülasyon etkilenmez.
+     */
+    public void setOnScreen(boolean onScreen) {
+        if (this.onScreen == onScreen) return;
+        this.onScreen = onScreen;
+
+        if (onScreen) {
+            animator.resume();
+        } else {
+            animator.pause();
+        }
+    }
+
+    /**
+     * Ölüm animasyonunu sahnede belirtilen yerde (görünümün sprite'ıyla) başlatır.
+     */
+    public static void playDeathAnimationAt(double x, double y, Pane parent, SlimeView source) {
+        Animator deathAnimator = deathVisualPool.poll();
+        if (deathAnimator == null) {
+            deathAnimator = new Animator(source.sheet);
+        } else {
+            deathAnimator.setSheet(source.sheet);
+        }
+        ImageView view = deathAnimator.getImageView();
+
+        deathAnimator.playAnimation(DEATH_FRAMES, 150, false);
+
+        view.setLayoutX(x - source.size / 2);
+        view.setLayoutY(y - source.size / 2);
+
+        parent.getChildren().add(view);
+
+        Animator pooled = deathAnimator;
+        PauseTransition cleanup = new PauseTransition(Duration.seconds(DEATH_DURATION));
+        cleanup.setOnFinished(e -> {
+            parent.getChildren().remove(view);
+            pooled.stopAnimation();
+            if (deathVisualPool.size() < MAX_POOLED_DEATH_VISUALS) deathVisualPool.push(pooled);
+        });
+        cleanup.play();
+
+        LeakDetector.trackTransient(view);
+        LeakDetector.trackTransient(cleanup);
+        LeakDetector.ownerDied(pooled);
+    }
+
+    // Getter'lar
+
+    public EnemyType getType() {
+        return type;
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+}
@@ -0,0 +1,66 @@
+package character;
+
+import javafx.scene.image.Image;
+
+/**
+ * SpriteSheet, bir görsel içindeki kare ızgarasını tanımlar.
+ * Görsel tek başına bir sprite sheet olabileceği gibi, birçok sheet'in paketlendiği
+ * bir atlasın bir bölgesi de olabilir; kareler (originX, originY) noktasından başlar.
+ */
+public final class SpriteSheet {
+
+    private final Image image;
+    private final int originX;
+    private final int originY;
+    private final int frameWidth;
+    private final int frameHeight;
+    private final int framesPerRow;
+
+    /**
+     * @param image        Karelerin bulunduğu görsel (sheet veya atlas)
+     * @param originX      İlk karenin görseldeki X konumu
+     * @param originY      İlk karenin görseldeki Y konumu
+     * @param frameWidth   Bir karenin genişliği
+     * @param frameHeight  Bir karenin yüksekliği
+     * @param framesPerRow Satır başına kare sayısı
+     */
+    public SpriteSheet(Image image, int originX, int originY, int frameWidth, int frameHeight, int framesPerRow) {
+        this.image = image;
+        this.originX = originX;
+        this.originY = originY;
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        this.framesPerRow = framesPerRow;
+    }
+
+    /**
+     * Tek başına bir sprite sheet görseli için (kareler sol üstten başlar).
+     */
+    public SpriteSheet(Image image, int frameWidth, int frameHeight, int framesPerRow) {
+        this(image, 0, 0, frameWidth, frameHeight, framesPerRow);
+    }
+
+    public Image getImage() {
+        return image;
+    }
+
+    public int getOriginX() {
+        return originX;
+    }
+
+    public int getOriginY() {
+        return originY;
+    }
+
+    public int getFrameWidth() {
+        return frameWidth;
+    }
+
+    public int getFrameHeight() {
+        return frameHeight;
+    }
+
+    public int getFramesPerRow() {
+        return framesPerRow;
+    }
+}
@@ -3,6 +3,7 @@ module JavaFx {
     requires javafx.fxml;
     requires javafx.media;
 	requires javafx.graphics;
+    requires jdk.management;
 
     opens application to javafx.fxml;
     exports application;
@@ -1,35 +1,29 @@
 package towers;
 
-import application.EnemyManager;
-import application.TowerManager;
+import application.DamageSystem;
 import character.SlimeEnemy;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.geometry.Bounds;
-import javafx.geometry.Point2D;
 import javafx.scene.Group;
 import javafx.scene.Node;
-import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
-import javafx.scene.shape.Line;
 import javafx.scene.shape.Polygon;
-import javafx.util.Duration;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * LaserTower sınıfı, sürekli olarak düşmanlara hasar veren lazer ışınları üretir.
- * Düşmanlara animasyonlu lazer çizer, lazer ucunda hasar verir ve gerektiğinde kaldırır.
+ * Işınlar her tick menzildeki düşmanlara yeniden hesaplanır; hasar 100 ms'de bir uygulanır.
+ * Işın çizgileri render tarafında snapshot'tan çizilir.
  */
 public class LaserTower extends Tower {
 
-    private Timeline laserTimeline;
-    private final List<Line> laserLines = new ArrayList<>();
-    private final List<Line> animatedLasers = new ArrayList<>();
-    private final List<Timeline> laserAnimations = new ArrayList<>();
-    private static final List<Line> activeLasers = new ArrayList<>();
+    private static final double DAMAGE_INTERVAL = 0.1;     // saniye
+
+    private double[] beamEnds = new double[16];             // Işın uçları (x, y çiftleri)
+    private SlimeEnemy[] beamEnemies = new SlimeEnemy[8];   // Işının tuttuğu düşmanlar
+    private int[] beamTargets = new int[8];                 // ve kimlikleri (snapshot için)
+    private int beamCount;
 
     private Group node;
     private Polygon outerOctagon, innerOctagon, innerCore;
@@ -94,31 +88,62 @@ public class LaserTower extends Tower {
 
         node = new Group(outerOctagon, innerOctagon, innerCore, centerCore);
         this.towerShape = node;
+    }
 
-        // Her 100ms'de bir lazer efektlerini güncelle
-        laserTimeline = new Timeline(new KeyFrame(Duration.millis(100), e -> updateLasers()));
-        laserTimeline.setCycleCount(Timeline.INDEFINITE);
+    /**
+     * Her tick menzildeki tüm düşmanlara ışın tutar.
+     */
+    @Override
+    public void acquireTargets(double dt, List<SlimeEnemy> enemies) {
+        beamCount = 0;
+
+        for (SlimeEnemy e : enemies) {
+            if (e.isDead() || !isInRange(e)) continue;
+
+            if (beamCount == beamTargets.length) {
+                beamEnds = Arrays.copyOf(beamEnds, beamEnds.length * 2);
+                beamEnemies = Arrays.copyOf(beamEnemies, beamEnemies.length * 2);
+                beamTargets = Arrays.copyOf(beamTargets, beamTargets.length * 2);
+            }
+            beamEnds[beamCount * 2] = e.getX();
+            beamEnds[beamCount * 2 + 1] = e.getY();
+            beamEnemies[beamCount] = e;
+            beamTargets[beamCount] = e.getId();
+            beamCount++;
+        }
+    }
+
+    /**
+     * Lazer menzildeki herkese ışın tutar; hedefleme modu yoktur.
+     */
+    @Override
+    public boolean hasTargetingMode() {
+        return false;
     }
 
     /**
-     * Güncelleme burada yapılmıyor, lazerler kendi timeline'ı içinde döner.
+     * Bekleme süresi dolduysa ışın tutulan tüm düşmanlara hasar yazar.
+     * Lazerle ölen düşmanın ölüm animasyonu ışın ucunda oynatılır.
      */
     @Override
-    public void update(List<SlimeEnemy> enemies) {
-        // handled by laserTimeline
+    public void fire(double dt) {
+        cooldown = Math.max(0, cooldown - dt);
+        if (cooldown > 0 || beamCount == 0) return;
+
+        for (int i = 0; i < beamCount; i++) {
+            // Hasar kaydı → lazer efektinde ses/patlama yok
+            DamageSystem.queueLaserHit(beamEnemies[i], damage, beamEnds[i * 2], beamEnds[i * 2 + 1]);
+        }
+        cooldown = DAMAGE_INTERVAL;
     }
 
     /**
-     * Kule sahneye yerleştirildiğinde lazer başlasın, kaldırıldığında dursun.
+     * Kule kaldırıldığında (sürükleme) ışınlar da kaybolur.
      */
     @Override
     public void setPlaced(boolean placed) {
         super.setPlaced(placed);
-        if (placed) {
-            laserTimeline.play();
-        } else {
-            laserTimeline.stop();
-        }
+        if (!placed) beamCount = 0;
     }
 
     /**
@@ -131,107 +156,37 @@ public class LaserTower extends Tower {
     }
 
     /**
-     * Lazer çizgilerini günceller ve her uygun düşmana hasar uygular.
+     * Son tick'te tutulan ışın sayısı.
      */
-    private void updateLasers() {
-        if (!(towerShape.getParent() instanceof Pane pane)) return;
-
-        pane.getChildren().removeAll(laserLines);
-        pane.getChildren().removeAll(animatedLasers);
-        laserLines.clear();
-        animatedLasers.clear();
-
-        List<SlimeEnemy> enemies = EnemyManager.getEnemies();
-        Color laserColor = getLaserColorByLevel(level);
-
-        for (SlimeEnemy e : enemies) {
-            if (e.isDead() || !isInRange(e)) continue;
-
-            // Kule ve düşman merkezleri
-            Point2D start = getSceneCenter(towerShape);
-            Point2D end = getSceneCenter(e.getGroup());
-
-            Point2D localStart = TowerManager.getOverlayPane().sceneToLocal(start);
-            Point2D localEnd = TowerManager.getOverlayPane().sceneToLocal(end);
-
-            // Ölüm animasyonu için düşmanın parent koordinatına çevir
-            Point2D sceneDeathPos = TowerManager.getOverlayPane().localToScene(localEnd);
-            Point2D localDeathPos = ((Pane) e.getGroup().getParent()).sceneToLocal(sceneDeathPos);
-
-            // Lazer çizgisi: düz ve animasyonlu
-            Line solid = new Line(localStart.getX(), localStart.getY(), localEnd.getX(), localEnd.getY());
-            solid.setStroke(laserColor.darker());
-            solid.setStrokeWidth(3);
-            solid.setOpacity(0.75);
-
-            Line dash = new Line(localStart.getX(), localStart.getY(), localEnd.getX(), localEnd.getY());
-            dash.setStroke(laserColor.brighter());
-            dash.setStrokeWidth(2);
-            dash.setOpacity(0.9);
-            dash.getStrokeDashArray().addAll(12.0, 12.0);
-
-            // Animasyonlu çizgi hareket ettiriliyor
-            Timeline anim = new Timeline(new KeyFrame(Duration.millis(20), ev -> {
-                dash.setStrokeDashOffset(dash.getStrokeDashOffset() + 2);
-            }));
-            anim.setCycleCount(Timeline.INDEFINITE);
-            anim.play();
-
-            // Hasar ver → lazer efektinde ses/patlama yok
-            e.takeDamage(damage, true, true, localDeathPos.getX(), localDeathPos.getY(), () -> {
-                if (e.isDead()) pane.getChildren().remove(e.getGroup());
-            });
-
-            pane.getChildren().addAll(solid, dash);
-            laserLines.add(solid);
-            animatedLasers.add(dash);
-            activeLasers.add(solid);
-            activeLasers.add(dash);
-            laserAnimations.add(anim);
-        }
+    public int getBeamCount() {
+        return beamCount;
     }
 
     /**
-     * Düşmanın menzil içinde olup olmadığını kontrol eder.
+     * i. ışının ucunun X konumu.
      */
-    @Override
-    public boolean isInRange(SlimeEnemy e) {
-        return super.isInRange(e);
+    public double getBeamEndX(int i) {
+        return beamEnds[i * 2];
     }
 
     /**
-     * Lazer çizgilerini durdurur ve sahneden kaldırır.
+     * i. ışının ucunun Y konumu.
      */
-    public void pauseLasers() {
-        if (laserTimeline != null) laserTimeline.stop();
-        clearLaserGraphics();
+    public double getBeamEndY(int i) {
+        return beamEnds[i * 2 + 1];
     }
 
     /**
-     * Lazer çizgilerini yeniden başlatır.
+     * i. ışının tuttuğu düşmanın kimliği.
      */
-    public void resumeLasers() {
-        if (isPlaced() && laserTimeline != null) laserTimeline.play();
-    }
-
-    /**
-     * Sahnedeki tüm lazer çizgilerini siler.
-     */
-    private void clearLaserGraphics() {
-        if (towerShape.getParent() instanceof Pane pane) {
-            pane.getChildren().removeAll(laserLines);
-            pane.getChildren().removeAll(animatedLasers);
-        }
-        laserLines.clear();
-        animatedLasers.clear();
-        laserAnimations.forEach(Timeline::stop);
-        laserAnimations.clear();
+    public int getBeamTargetId(int i) {
+        return beamTargets[i];
     }
 
     /**
      * Lazerin seviyeye göre rengini döndürür.
      */
-    private Color getLaserColorByLevel(int level) {
+    public static Color getLaserColorByLevel(int level) {
         return switch (level) {
             case 1 -> Color.RED;
             case 2 -> Color.LIMEGREEN;
@@ -239,31 +194,4 @@ public class LaserTower extends Tower {
             default -> Color.DARKRED;
         };
     }
-
-    /**
-     * Tüm lazerleri global olarak temizler (örn: level geçince).
-     */
-    public static void clearAllLasers(Pane pane) {
-        for (Line laser : activeLasers) {
-            pane.getChildren().remove(laser);
-        }
-        activeLasers.clear();
-    }
-
-    /**
-     * Lazer çizimlerini ve güncellemeleri durdurur.
-     */
-    public void stopLasers() {
-        if (laserTimeline != null) laserTimeline.stop();
-        clearLaserGraphics();
-    }
-
-    /**
-     * Yardımcı: Node'un sahne merkezini döndürür.
-     */
-    private Point2D getSceneCenter(Node node) {
-        Bounds bounds = node.localToScene(node.getBoundsInLocal());
-        return new Point2D(bounds.getMinX() + bounds.getWidth() / 2,
-                           bounds.getMinY() + bounds.getHeight() / 2);
-    }
 }
@@ -1,24 +1,15 @@
 package towers;
 
-import application.EnemyManager;
-import application.ExplosionEffect;
+import application.ProjectileSystem;
 import character.SlimeEnemy;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.geometry.Bounds;
-import javafx.geometry.Point2D;
 import javafx.scene.Group;
 import javafx.scene.Node;
-import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.transform.Rotate;
-import javafx.util.Duration;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * MissileLauncherTower, hedefe füze göndererek çevresindeki düşmanlara hasar veren alan etkili bir kuledir.
@@ -26,12 +17,14 @@ import java.util.stream.Collectors;
  */
 public class MissileLauncherTower extends Tower {
 
-    private double fireCooldown = 2.0; // saniye
-    private long lastFireTime = 0;
+    private static final double FIRE_COOLDOWN = 2.0;   // saniye
+    private static final double MISSILE_SPEED = 375;   // piksel / saniye (eski 16 ms'de 6 piksel)
+    private static final double BARREL_LENGTH = 28;    // Kule merkezinden namlu ucuna
 
     private Rectangle barrel;
     private Rotate rotate;
     private Group node;
+    private SlimeEnemy target;                          // Bu tick'te seçilen hedef (yoksa null)
 
     /**
      * Kule butonları için örnek şekli döndürür.
@@ -102,41 +95,37 @@ public class MissileLauncherTower extends Tower {
     }
 
     /**
-     * Her frame çağrılır. En yakın düşmanı bulur, gerekirse füze fırlatır.
+     * Hedefleme moduna göre menzildeki düşmanı seçer ve namluyu ona çevirir.
      */
     @Override
-    public void update(List<SlimeEnemy> enemies) {
-        long now = System.currentTimeMillis();
-
-        SlimeEnemy closest = enemies.stream()
-                .filter(e -> !e.isDead() && isInRange(e))
-                .min((a, b) -> Double.compare(getDistanceTo(a), getDistanceTo(b)))
-                .orElse(null);
-
-        if (closest != null) {
-            rotateToTarget(closest);
+    public void acquireTargets(double dt, List<SlimeEnemy> enemies) {
+        target = selectTarget(enemies);
+        if (target != null) {
+            aimAngle = angleTo(target);
         }
+    }
+
+    /**
+     * Bekleme süresi dolduysa seçilen hedefe füze fırlatır.
+     */
+    @Override
+    public void fire(double dt) {
+        cooldown = Math.max(0, cooldown - dt);
 
-        if (closest != null && now - lastFireTime >= fireCooldown * 1000) {
-            launchMissile(closest, enemies);
-            lastFireTime = now;
+        if (target != null && cooldown <= 0) {
+            launchMissile(target);
+            cooldown = FIRE_COOLDOWN;
         }
+        target = null;
     }
 
     /**
-     * Kule namlusunu hedef düşmana döndürür.
+     * Kule namlusunu verilen açıya döndürür.
      */
-    private void rotateToTarget(SlimeEnemy target) {
+    @Override
+    protected void applyAim(double angle) {
         Rotate r = (Rotate) node.getProperties().get("rotate");
         if (r == null) return;
-
-        Point2D towerPos = towerShape.localToScene(0, 0);
-        Point2D enemyCenter = getScenePosition(target.getGroup());
-
-        double dx = enemyCenter.getX() - towerPos.getX();
-        double dy = enemyCenter.getY() - towerPos.getY();
-
-        double angle = Math.toDegrees(Math.atan2(dy, dx)) + 90;
         r.setAngle(angle);
     }
 
@@ -154,94 +143,12 @@ public class MissileLauncherTower extends Tower {
     }
 
     /**
-     * Füze fırlatır ve hedefe ulaştığında etki alanındaki tüm düşmanlara hasar verir.
-     */
-    private void launchMissile(SlimeEnemy target, List<SlimeEnemy> allEnemies) {
-        Pane pane = (Pane) towerShape.getParent();
-        if (pane == null) return;
-
-        Rectangle barrel = (Rectangle) node.getProperties().get("barrel");
-        Point2D tipScene = barrel.localToScene(barrel.getWidth() / 2, 0);
-        Point2D tip = pane.sceneToLocal(tipScene);
-
-        Point2D towerSceneCenter = getScenePosition(towerShape);
-
-        Circle missile = new Circle(6);
-        missile.setFill(Color.DARKSLATEGRAY);
-        missile.setTranslateX(tip.getX());
-        missile.setTranslateY(tip.getY());
-        pane.getChildren().add(missile);
-
-        final Timeline[] timelineRef = new Timeline[1];
-
-        Timeline timeline = new Timeline(new KeyFrame(Duration.millis(16), evt -> {
-            Point2D targetPos = getScenePosition(target.getGroup());
-            Point2D targetLocal = pane.sceneToLocal(targetPos);
-
-            double dx = targetLocal.getX() - missile.getTranslateX();
-            double dy = targetLocal.getY() - missile.getTranslateY();
-            double dist = Math.sqrt(dx * dx + dy * dy);
-
-            // 📏 Menzil kontrolü
-            Point2D missileScene = pane.localToScene(missile.getTranslateX(), missile.getTranslateY());
-            double missileDist = missileScene.distance(towerSceneCenter);
-
-            if (missileDist > range) {
-                pane.getChildren().remove(missile);
-                if (timelineRef[0] != null) timelineRef[0].stop();
-                return;
-            }
-
-            if (dist < 5) {
-                pane.getChildren().remove(missile);
-
-                for (SlimeEnemy enemy : allEnemies) {
-                    if (enemy.isDead()) continue;
-
-                    Point2D enemyPos = enemy.getSceneCenter();
-                    if (enemyPos.distance(towerSceneCenter) <= range) {
-                        enemy.takeDamage(damage, () -> {
-                            if (enemy.getGroup().getParent() != null) {
-                                pane.getChildren().remove(enemy.getGroup());
-                            }
-                        });
-
-                        Point2D explosion = pane.sceneToLocal(enemyPos);
-                        ExplosionEffect.play(explosion.getX(), explosion.getY(), pane);
-                    }
-                }
-
-                if (timelineRef[0] != null) timelineRef[0].stop();
-                return;
-            }
-
-            double step = 6;
-            missile.setTranslateX(missile.getTranslateX() + (dx / dist) * step);
-            missile.setTranslateY(missile.getTranslateY() + (dy / dist) * step);
-        }));
-
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        timeline.play();
-        timelineRef[0] = timeline;
-    }
-
-    /**
-     * Verilen node'un sahnedeki merkez koordinatını döndürür.
-     */
-    private Point2D getScenePosition(Node node) {
-        Bounds bounds = node.localToScene(node.getBoundsInLocal());
-        return new Point2D(
-                bounds.getMinX() + bounds.getWidth() / 2,
-                bounds.getMinY() + bounds.getHeight() / 2
-        );
-    }
-
-    /**
-     * Düşmana olan mesafeyi verir (yerel konuma göre).
+     * Namlu ucundan füze fırlatır. Füze hedefe (hedef ölürse son konumuna) ulaştığında
+     * kulenin menzilindeki tüm düşmanlara hasar verir.
      */
-    private double getDistanceTo(SlimeEnemy enemy) {
-        double dx = enemy.getGroup().getTranslateX() - x;
-        double dy = enemy.getGroup().getTranslateY() - y;
-        return Math.sqrt(dx * dx + dy * dy);
+    private void launchMissile(SlimeEnemy target) {
+        double[] tip = pointAlongAim(aimAngle, BARREL_LENGTH);
+        ProjectileSystem.spawn(new Projectile(Projectile.Kind.MISSILE, tip[0], tip[1], MISSILE_SPEED,
+                target, damage, x, y, range));
     }
 }
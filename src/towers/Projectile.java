@@ -0,0 +1,220 @@
+package towers;
+
+import application.DamageSystem;
+import application.EnemyManager;
+import character.SlimeEnemy;
+
+/**
+ * Projectile, kulelerin fırlattığı mermi ve füzelerin oyun mantığıdır.
+ * Simülasyon thread'inde ProjectileSystem tarafından her tick'te ilerletilir;
+ * sahne tarafında kimliğine göre eşlenen bir daire olarak çizilir.
+ *
+ * Mermi ve top güllesi öngörülü nişanla atılır: ateş anında hedefin yol üzerindeki konumu, hızı ve
+ * merminin hızından bir kesişme noktası bir kez hesaplanır. Mermi oraya düz çizgide uçar; her tick
+ * yalnızca konumu ilerler, hedefe bakılmaz. Uçuş süresi dolduğunda hedef kesişme noktasına
+ * isabet yarıçapı kadar yakınsa vurulmuş sayılır (çatalda başka yöne saptıysa ıska geçer).
+ * Kesişme noktası kule menzili dışındaysa ya da MAX_FLIGHT_TIME içinde yetişilemiyorsa öngörü reddedilir;
+ * mermi takip eden mermi gibi uçar (menzil dışına çıkınca silinir, hızını aşmaz).
+ * "slimedefense.leadAim=false" ile eski takip eden mermilere dönülür. Füzeler her zaman takip eder.
+ */
+public class Projectile {
+
+    /**
+     * Mermi türü: hareket, isabet ve görünüm buna göre belirlenir.
+     */
+    public enum Kind {
+        BULLET,     // SingleShotTower: kesişme noktasına uçar, isabet noktasında patlar
+        SHELL,      // TripleShotTower: kesişme noktasına uçar, hedefin üzerinde patlar
+        MISSILE     // MissileLauncherTower: hedefi takip eder, ölürse son konumuna gider, alan hasarı verir
+    }
+
+    private static final boolean LEAD_AIM =
+            Boolean.parseBoolean(System.getProperty("slimedefense.leadAim", "true"));
+    private static final double MISSILE_HIT_DISTANCE = 5;
+    private static final int INTERCEPT_ITERATIONS = 8;
+    private static final double INTERCEPT_TOLERANCE = 0.001;  // Saniye
+    private static final double MAX_FLIGHT_TIME = 3;           // Yetişilemeyen hedefe bundan uzun uçulmaz
+
+    private static int nextId = 1;
+
+    private final int id;
+    private final Kind kind;
+    private final SlimeEnemy target;
+    private final int targetGeneration;     // Havuzdan yeniden kullanılan hedefi ayırt etmek için
+    private final double speed;             // piksel / saniye
+    private final double damage;
+    private final double originX, originY;  // Menzil kontrolü için kule merkezi
+    private final double range;
+
+    private double x, y;
+    private double targetX, targetY;        // Son bilinen hedef konumu (takip eden mermi) / kesişme noktası
+
+    // Öngörülü nişan (düz uçuş)
+    private boolean aimed;
+    private double vx, vy;                  // piksel / saniye
+    private double flightLeft;              // Kesişme noktasına kalan süre (saniye)
+
+    /**
+     * @param kind    Mermi türü
+     * @param x       Başlangıç X (overlay'e göre)
+     * @param y       Başlangıç Y
+     * @param speed   Hız (piksel / saniye)
+     * @param target  Hedef düşman
+     * @param damage  İsabet hasarı
+     * @param originX Kule merkezi X (menzil dışına çıkan mermi silinir)
+     * @param originY Kule merkezi Y
+     * @param range   Kule menzili
+     */
+    public Projectile(Kind kind, double x, double y, double speed, SlimeEnemy target, double damage,
+                      double originX, double originY, double range) {
+        this.id = nextId++;
+        this.kind = kind;
+        this.x = x;
+        this.y = y;
+        this.speed = speed;
+        this.target = target;
+        this.targetGeneration = target.getGeneration();
+        this.damage = damage;
+        this.originX = originX;
+        this.originY = originY;
+        this.range = range;
+        this.targetX = target.getX();
+        this.targetY = target.getY();
+
+        this.aimed = LEAD_AIM && kind != Kind.MISSILE && aimAtIntercept();
+    }
+
+    /**
+     * Kesişme noktasını bulur: hedefin t saniye sonraki konumuna mermi de t saniyede varmalı.
+     * t = |P(t) - başlangıç| / hız sabit nokta yinelemesiyle çözülür; mermi düşmandan hızlı olduğu
+     * sürece birkaç adımda yakınsar.
+     *
+     * @return Kesişme noktası menzilde ve süresinde yetişilebilir ise true; değilse nişan kurulmaz
+     */
+    private boolean aimAtIntercept() {
+        double[] predicted = {targetX, targetY};
+        double t = distance(x, y, targetX, targetY) / speed;
+
+        for (int i = 0; i < INTERCEPT_ITERATIONS; i++) {
+            target.predictPosition(t, predicted);
+            double next = distance(x, y, predicted[0], predicted[1]) / speed;
+            if (next > MAX_FLIGHT_TIME) return false;   // Kısaltılan süreyle mermi hızından hızlı uçardı
+
+            boolean converged = Math.abs(next - t) < INTERCEPT_TOLERANCE;
+            t = next;
+            if (converged) break;
+        }
+
+        // Başlangıç ve kesişme noktası menzildeyse daire dışbükey olduğu için düz uçuş menzilden çıkmaz
+        if (distance(originX, originY, predicted[0], predicted[1]) > range) return false;
+
+        targetX = predicted[0];
+        targetY = predicted[1];
+        flightLeft = t;
+        if (t > 0) {
+            vx = (targetX - x) / t;
+            vy = (targetY - y) / t;
+        }
+        return true;
+    }
+
+    private static double distance(double x0, double y0, double x1, double y1) {
+        double dx = x1 - x0;
+        double dy = y1 - y0;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * Mermiyi dt saniye kadar ilerletir; isabetler DamageSystem'e yazılır.
+     *
+     * @return Mermi isabet ettiyse veya düştüyse true (listeden çıkarılmalı)
+     */
+    public boolean update(double dt) {
+        if (aimed) return fly(dt);
+
+        if (target.isAlive(targetGeneration)) {
+            targetX = target.getX();
+            targetY = target.getY();
+        } else if (kind != Kind.MISSILE) {
+            return true;    // Hedef öldü → mermi kaybolur
+        }
+
+        double dx = targetX - x;
+        double dy = targetY - y;
+        double dist = Math.sqrt(dx * dx + dy * dy);
+
+        double ox = x - originX;
+        double oy = y - originY;
+        if (Math.sqrt(ox * ox + oy * oy) > range) return true;
+
+        double hitDistance = kind == Kind.MISSILE ? MISSILE_HIT_DISTANCE : target.getHitRadius();
+        double step = speed * dt;
+        if (dist < hitDistance || step >= dist) {
+            hit();
+            return true;
+        }
+
+        x += dx / dist * step;
+        y += dy / dist * step;
+        return false;
+    }
+
+    /**
+     * Düz uçuş: konum ilerler; kesişme anı bu tick içindeyse isabet kontrol edilir.
+     * Düşmanlar mermilerden önce hareket ettiği için hedef tick sonundaki konumundadır;
+     * aradaki fark için tolerans bir tick'lik düşman yolu kadar genişletilir.
+     */
+    private boolean fly(double dt) {
+        if (flightLeft > dt) {
+            x += vx * dt;
+            y += vy * dt;
+            flightLeft -= dt;
+            return false;
+        }
+
+        x = targetX;
+        y = targetY;
+        if (target.isAlive(targetGeneration)) {
+            double tolerance = target.getHitRadius() + target.getVelocity() * dt;
+            if (distance(target.getX(), target.getY(), x, y) <= tolerance) hit();
+        }
+        return true;
+    }
+
+    private void hit() {
+        switch (kind) {
+            case BULLET -> DamageSystem.queueHit(target, damage, x, y);
+            case SHELL -> DamageSystem.queueHit(target, damage, targetX, targetY);
+            case MISSILE -> {
+                // Patlama kulenin menzilindeki tüm düşmanlara hasar verir
+                for (SlimeEnemy enemy : EnemyManager.getEnemies()) {
+                    if (enemy.isDead()) continue;
+
+                    double ex = enemy.getX() - originX;
+                    double ey = enemy.getY() - originY;
+                    if (Math.sqrt(ex * ex + ey * ey) <= range) {
+                        DamageSystem.queueHit(enemy, damage, enemy.getX(), enemy.getY());
+                    }
+                }
+            }
+        }
+    }
+
+    // Getter'lar
+
+    public int getId() {
+        return id;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+}
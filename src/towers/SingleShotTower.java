@@ -1,20 +1,13 @@
 package towers;
 
-import application.ExplosionEffect;
+import application.ProjectileSystem;
 import character.SlimeEnemy;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.geometry.Bounds;
-import javafx.geometry.Point2D;
 import javafx.scene.Group;
 import javafx.scene.Node;
-import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.transform.Rotate;
-import javafx.util.Duration;
 
 import java.util.List;
 
@@ -24,14 +17,14 @@ import java.util.List;
  */
 public class SingleShotTower extends Tower {
 
-    private final double fireCooldown = 0.8; // saniye cinsinden ateş aralığı
-    private long lastFireTime = 0;
+    private static final double FIRE_COOLDOWN = 0.8;   // saniye cinsinden ateş aralığı
+    private static final double BULLET_SPEED = 312.5;  // piksel / saniye (eski 16 ms'de 5 piksel)
+    private static final double BARREL_LENGTH = 32;    // Kule merkezinden namlu ucuna
 
     private Group node;
     private Rectangle barrel, barrel1, body;
     private Rotate rotate;
-    private Timeline rotationTimeline;
-    private double currentAngle = 0;
+    private SlimeEnemy target;                          // Bu tick'te seçilen hedef (yoksa null)
 
     /**
      * Bu kuleye ait butonlarda gösterilecek örnek şekil.
@@ -125,153 +118,45 @@ public class SingleShotTower extends Tower {
     }
 
     /**
-     * Her frame çağrılır: hedef seçip ateş eder.
+     * Hedefleme moduna göre menzildeki düşmanı seçer ve namluyu ona çevirir.
      */
     @Override
-    public void update(List<SlimeEnemy> enemies) {
-        long now = System.currentTimeMillis();
-
-        SlimeEnemy closest = null;
-        double minDist = Double.MAX_VALUE;
-
-        for (SlimeEnemy e : enemies) {
-            if (e.isDead() || !isInRange(e)) continue;
-
-            double dx = e.getGroup().getTranslateX() - x;
-            double dy = e.getGroup().getTranslateY() - y;
-            double dist = Math.sqrt(dx * dx + dy * dy);
-
-            if (dist < minDist) {
-                minDist = dist;
-                closest = e;
-            }
-        }
-
-        if (closest != null) {
-            rotateToTarget(closest);
-
-            if (now - lastFireTime >= fireCooldown * 1000) {
-                shoot(closest);
-                lastFireTime = now;
-            }
+    public void acquireTargets(double dt, List<SlimeEnemy> enemies) {
+        target = selectTarget(enemies);
+        if (target != null) {
+            aimAngle = angleTo(target);
         }
     }
 
     /**
-     * Düşmana dönük olacak şekilde namluyu döndürür.
+     * Bekleme süresi dolduysa seçilen hedefe ateş eder.
      */
-    private void rotateToTarget(SlimeEnemy target) {
-        Bounds towerBounds = towerShape.localToScene(towerShape.getBoundsInLocal());
-        double towerX = towerBounds.getMinX() + towerBounds.getWidth() / 2;
-        double towerY = towerBounds.getMinY() + towerBounds.getHeight() / 2;
-
-        Bounds enemyBounds = target.getGroup().localToScene(target.getGroup().getBoundsInLocal());
-        double enemyX = enemyBounds.getMinX() + enemyBounds.getWidth() / 2;
-        double enemyY = enemyBounds.getMinY() + enemyBounds.getHeight() / 2;
-
-        double dx = enemyX - towerX;
-        double dy = enemyY - towerY;
+    @Override
+    public void fire(double dt) {
+        cooldown = Math.max(0, cooldown - dt);
 
-        double angle = Math.toDegrees(Math.atan2(dy, dx)) + 90;
-        smoothRotateTo(angle);
+        if (target != null && cooldown <= 0) {
+            shoot(target);
+            cooldown = FIRE_COOLDOWN;
+        }
+        target = null;
     }
 
     /**
-     * Namlunun yumuşak dönüşünü sağlar.
+     * Namluyu verilen açıya çevirir.
      */
-    private void smoothRotateTo(double targetAngle) {
-        if (rotationTimeline != null) rotationTimeline.stop();
-
-        targetAngle = (targetAngle + 360) % 360;
-        currentAngle = (rotate.getAngle() + 360) % 360;
-
-        double shortestDiff = targetAngle - currentAngle;
-        if (shortestDiff > 180) shortestDiff -= 360;
-        if (shortestDiff < -180) shortestDiff += 360;
-
-        final int frames = 20;
-        final double step = shortestDiff / frames;
-
-        rotationTimeline = new Timeline(new KeyFrame(Duration.millis(1), e -> {
-            currentAngle += step;
-            rotate.setAngle(currentAngle);
-        }));
-        rotationTimeline.setCycleCount(frames);
-        rotationTimeline.play();
+    @Override
+    protected void applyAim(double angle) {
+        rotate.setAngle(angle);
     }
 
     /**
-     * Düşmana mermi fırlatır ve hedefe ulaştığında hasar + efekt uygular.
+     * Namlu ucundan düşmana mermi fırlatır; hedefe ulaştığında isabet DamageSystem'e yazılır.
      */
     private void shoot(SlimeEnemy target) {
-        Circle bullet = new Circle(5, Color.BLACK);
-
-        Pane pane = (Pane) towerShape.getParent();
-        if (pane == null) return;
-
-        Point2D barrelTip = getBarrelTip();
-        Point2D localStart = pane.sceneToLocal(barrelTip);
-
-        bullet.setTranslateX(localStart.getX());
-        bullet.setTranslateY(localStart.getY());
-        pane.getChildren().add(bullet);
-
-        final Timeline[] timelineRef = new Timeline[1];
-
-        Timeline missileTimeline = new Timeline(new KeyFrame(Duration.millis(16), e -> {
-            if (target.isDead()) {
-                pane.getChildren().remove(bullet);
-                if (timelineRef[0] != null) timelineRef[0].stop();
-                return;
-            }
-
-            Point2D currentTargetPos = getScenePosition(target.getGroup());
-            Point2D localTarget = pane.sceneToLocal(currentTargetPos);
-
-            double dx = localTarget.getX() - bullet.getTranslateX();
-            double dy = localTarget.getY() - bullet.getTranslateY();
-            double dist = Math.sqrt(dx * dx + dy * dy);
-
-            Point2D towerCenter = towerShape.localToScene(towerShape.getBoundsInLocal().getWidth() / 2,
-                                                          towerShape.getBoundsInLocal().getHeight() / 2);
-            Point2D bulletPos = pane.localToScene(bullet.getTranslateX(), bullet.getTranslateY());
-            double bx = bulletPos.getX() - towerCenter.getX();
-            double by = bulletPos.getY() - towerCenter.getY();
-            double bulletDistanceFromTower = Math.sqrt(bx * bx + by * by);
-
-            if (bulletDistanceFromTower > range || dist < 5) {
-                pane.getChildren().remove(bullet);
-                if (dist < 5) {
-                    target.takeDamage(damage, () -> pane.getChildren().remove(target.getGroup()));
-                    ExplosionEffect.play(bullet.getTranslateX(), bullet.getTranslateY(), pane);
-                }
-                if (timelineRef[0] != null) timelineRef[0].stop();
-                return;
-            }
-
-            double step = 5;
-            bullet.setTranslateX(bullet.getTranslateX() + (dx / dist) * step);
-            bullet.setTranslateY(bullet.getTranslateY() + (dy / dist) * step);
-        }));
-
-        missileTimeline.setCycleCount(Timeline.INDEFINITE);
-        missileTimeline.play();
-        timelineRef[0] = missileTimeline;
-    }
-
-    /**
-     * Varil ucunun sahnedeki konumunu döndürür.
-     */
-    private Point2D getBarrelTip() {
-        Bounds bounds = barrel1.localToScene(barrel1.getBoundsInLocal());
-        return new Point2D(bounds.getMinX() + bounds.getWidth() / 2, bounds.getMinY());
-    }
-
-    /**
-     * Belirli bir nesnenin sahnedeki merkezini döndürür.
-     */
-    private Point2D getScenePosition(Node node) {
-        return node.localToScene(node.getBoundsInLocal().getWidth() / 2, node.getBoundsInLocal().getHeight() / 2);
+        double[] tip = pointAlongAim(aimAngle, BARREL_LENGTH);
+        ProjectileSystem.spawn(new Projectile(Projectile.Kind.BULLET, tip[0], tip[1], BULLET_SPEED,
+                target, damage, x, y, range));
     }
 
     /**
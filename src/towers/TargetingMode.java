@@ -0,0 +1,53 @@
+package towers;
+
+import character.SlimeEnemy;
+
+/**
+ * Kulenin menzildeki düşmanlar arasından hangisini seçeceği.
+ * Her mod bir sıralama anahtarı tanımlar; anahtarı küçük olan düşman önceliklidir.
+ * Eşit anahtarlıda düşman listesindeki sıra (spawn sırası) korunur.
+ */
+public enum TargetingMode {
+    FIRST("First"),             // Çıkışa en yakın
+    LAST("Last"),               // Çıkışa en uzak
+    STRONGEST("Strongest"),     // Canı en yüksek
+    WEAKEST("Weakest"),         // Canı en düşük
+    CLOSEST("Closest");         // Kuleye en yakın
+
+    private final String label;
+
+    TargetingMode(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Arayüzde gösterilen kısa ad.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Arayüzde sıradaki mod (butona her basışta döner).
+     */
+    public TargetingMode next() {
+        TargetingMode[] modes = values();
+        return modes[(ordinal() + 1) % modes.length];
+    }
+
+    /**
+     * Düşmanın bu moddaki sıralama anahtarı; küçük olan seçilir.
+     *
+     * @param tower Hedef seçen kule
+     * @param enemy Menzildeki düşman
+     */
+    public double key(Tower tower, SlimeEnemy enemy) {
+        return switch (this) {
+            case FIRST -> enemy.getRemainingDistance();
+            case LAST -> -enemy.getRemainingDistance();
+            case STRONGEST -> -enemy.getHp();
+            case WEAKEST -> enemy.getHp();
+            case CLOSEST -> tower.distanceTo(enemy);
+        };
+    }
+}
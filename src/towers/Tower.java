@@ -1,24 +1,57 @@
 package towers;
 
+import application.EnemyIndex;
 import application.Map;
+import application.PathCoverage;
 import character.SlimeEnemy;
 import javafx.scene.Node;
 import javafx.scene.shape.Polygon;
 
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Tüm kulelerin ortak özelliklerini tanımlayan soyut (abstract) sınıf.
  * Kulelerin konumu, menzili, hasarı, seviye sistemi ve sahneye çizilecek görsel şekli burada tanımlanır.
+ *
+ * Hedefleme ve ateş etme simülasyon thread'inde iki aşamada çalışır:
+ * - acquireTargets(): hedef seçimi. Yalnızca kulenin kendi alanlarına yazar, düşmanları sadece okur;
+ *   bu yüzden kuleler arasında paralel çalıştırılabilir (bkz. TowerManager).
+ * - fire(): seçilen hedeflere mermi/hasar komutlarını uygular. Kule kimliği sırasıyla, tek thread'de çalışır.
+ * Konum, seviye ve yerleştirme
+ * durumu oyuncu komutlarıyla simülasyon thread'inde değişir; arayüz bu alanları yalnızca okur.
+ * Görsel (towerShape) JavaFX thread'ine aittir ve syncView() ile simülasyona uydurulur.
+ *
+ * Menzilin yolla kesişimi (PathCoverage) konum ya da menzil değiştiğinde bir kez hesaplanır;
+ * hedef seçimine yalnızca bu aralıklardaki düşmanlar aday olarak verilir (bkz. coveredEnemies).
+ * Tek hedefli kuleler hedefi oyuncunun seçtiği moda göre (TargetingMode) selectTarget() ile bulur.
  */
 public abstract class Tower {
-    protected double x, y;               // Kule merkezinin sahnedeki konumu
-    protected double range;             // Menzil (birim olarak)
-    protected double damage;            // Verdiği hasar
-    protected int cost;                 // Satın alma maliyeti
-    protected Node towerShape;          // Kuleye ait görsel (JavaFX Node)
-    protected boolean placed = false;   // Yerleştirilip yerleştirilmediği
-    protected Map map;                  // Kule yerleştirildiği harita referansı
-    protected int level = 1;            // Kule seviyesi
-    protected final int MAX_LEVEL = 3;  // Maksimum yükseltme seviyesi
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+
+    private final int id = nextId.getAndIncrement();  // Oluşturulma sırası; ateş aşamasının sırası
+    protected volatile double x, y;             // Kule merkezinin overlay'deki konumu
+    protected volatile double range;            // Menzil (birim olarak)
+    protected double damage;                    // Verdiği hasar
+    protected int cost;                         // Satın alma maliyeti
+    protected Node towerShape;                  // Kuleye ait görsel (JavaFX Node)
+    protected volatile boolean placed = false;  // Yerleştirilip yerleştirilmediği
+    protected Map map;                          // Kule yerleştirildiği harita referansı
+    protected volatile int level = 1;           // Kule seviyesi
+    protected final int MAX_LEVEL = 3;          // Maksimum yükseltme seviyesi
+    private int gridRow = -1;                   // Bulunduğu hücre (yerleştirilmediyse -1)
+    private int gridCol = -1;
+
+    protected double cooldown;                  // Bir sonraki atışa kalan süre (sn, simülasyon saati)
+    protected double aimAngle;                  // Namlu açısı (derece, 0 = yukarı)
+    private int shownLevel = 1;                 // Görselin yansıttığı seviye (JavaFX thread'i)
+
+    private volatile PathCoverage coverage;     // Menzilin yol üzerindeki aralıkları (tembel hesaplanır)
+    private final EnemyIndex.Query query = new EnemyIndex.Query();  // Aday sorgusu tamponları
+    private EnemyIndex candidateIndex;          // Son coveredEnemies() çağrısının dizini, kapsamı ve sonucu
+    private PathCoverage candidateCoverage;     // (simülasyon thread'i; selectTarget() bunlarla dizine sorar)
+    private List<SlimeEnemy> candidates;
+    private volatile TargetingMode targetingMode = TargetingMode.CLOSEST;
 
     /**
      * Yeni bir kule nesnesi oluşturur.
@@ -32,12 +65,146 @@ public abstract class Tower {
     }
 
     /**
-     * Kule davranışını tanımlar. Her frame çağrılır.
-     * Hedef seçip ateş etme mantığı buraya yazılır (alt sınıflarda).
+     * Kule davranışını tek thread'de çalıştırır: önce hedef seçimi, ardından ateş.
+     *
+     * @param dt      Tick süresi (saniye)
+     * @param enemies Bu tick'teki canlı düşmanlar (tick boyunca değişmez)
+     */
+    public final void update(double dt, List<SlimeEnemy> enemies) {
+        acquireTargets(dt, enemies);
+        fire(dt);
+    }
+
+    /**
+     * Hedef seçimi. Yalnızca bu kulenin alanlarına yazmalı, paylaşılan duruma (mermiler, hasar,
+     * düşmanlar) dokunmamalıdır; farklı kuleler için aynı anda çağrılabilir.
      *
-     * @param enemies Sahnedeki tüm düşmanlar
+     * @param dt      Tick süresi (saniye)
+     * @param enemies Bu tick'teki canlı düşmanlar (tick boyunca değişmez)
      */
-    public abstract void update(java.util.List<SlimeEnemy> enemies);
+    public abstract void acquireTargets(double dt, List<SlimeEnemy> enemies);
+
+    /**
+     * acquireTargets() ile seçilen hedeflere göre bekleme süresini işletir ve mermi/hasar komutlarını uygular.
+     * Tüm kuleler için kimlik sırasıyla, tek thread'de çağrılır.
+     *
+     * @param dt Tick süresi (saniye)
+     */
+    public abstract void fire(double dt);
+
+    /**
+     * Görseli simülasyon durumuna uydurur: seviye değiştiyse renkler, ardından namlu açısı.
+     * JavaFX thread'inde render sırasında çağrılır.
+     *
+     * @param aimAngle Snapshot'taki namlu açısı (derece)
+     */
+    public void syncView(double aimAngle) {
+        int current = level;
+        if (current != shownLevel) {
+            shownLevel = current;
+            updateVisualsByLevel();
+        }
+        applyAim(aimAngle);
+    }
+
+    /**
+     * Namlu açısını görsele uygular. Dönen namlusu olan kuleler override eder.
+     */
+    protected void applyAim(double angle) {}
+
+    /**
+     * Simülasyonun hesapladığı son namlu açısı (derece).
+     */
+    public double getAimAngle() {
+        return aimAngle;
+    }
+
+    /**
+     * Hedefe dönük namlu açısı (derece, 0 = yukarı; JavaFX Rotate ile aynı yön).
+     */
+    protected double angleTo(SlimeEnemy target) {
+        return Math.toDegrees(Math.atan2(target.getY() - y, target.getX() - x)) + 90;
+    }
+
+    /**
+     * Kule merkezinden verilen açıda ve uzaklıktaki nokta (namlu ucu gibi).
+     *
+     * @return {x, y}
+     */
+    protected double[] pointAlongAim(double angle, double distance) {
+        double rad = Math.toRadians(angle);
+        return new double[]{x + Math.sin(rad) * distance, y - Math.cos(rad) * distance};
+    }
+
+    /**
+     * Menzilin yolla kesişimi. Konum, menzil ya da harita değiştiyse yeniden hesaplanır.
+     *
+     * @return Kapsam; kule bir haritaya yerleştirilmediyse null
+     */
+    public PathCoverage getCoverage() {
+        Map current = map;
+        if (current == null) return null;
+
+        double cx = x, cy = y, r = range;
+        PathCoverage cached = coverage;
+        if (cached == null || !cached.isFor(current, cx, cy, r)) {
+            cached = PathCoverage.compute(current, cx, cy, r);
+            coverage = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Bu tick'te menzile girebilecek düşmanlar: kapsam aralıklarındaki düşmanlar, liste sırasıyla.
+     * Kesin kontrol isInRange() ile yapılır. Haritası olmayan kule tüm listeyi alır.
+     * Dönen liste bir sonraki çağrıya kadar geçerlidir; acquireTargets() içinde kullanılır.
+     *
+     * @param index Bu tick için kurulmuş düşman dizini
+     */
+    public List<SlimeEnemy> coveredEnemies(EnemyIndex index) {
+        PathCoverage current = getCoverage();
+        candidateIndex = current == null ? null : index;
+        candidateCoverage = current;
+        candidates = current == null ? index.getEnemies() : index.collect(current, query);
+        return candidates;
+    }
+
+    /**
+     * Hedefleme moduna göre menzildeki en iyi düşmanı seçer (eşitlikte listede önce gelen).
+     * Liste bu tick'in coveredEnemies() sonucuysa ilk/son/güçlü/zayıf doğrudan dizinden yanıtlanır;
+     * en yakın modunda ve dizin yokken liste mod anahtarıyla bir kez taranır. İkisi de aynı düşmanı seçer.
+     *
+     * @param enemies acquireTargets()'a verilen liste
+     * @return Menzilde düşman yoksa null
+     */
+    protected SlimeEnemy selectTarget(List<SlimeEnemy> enemies) {
+        TargetingMode mode = targetingMode;
+        if (mode != TargetingMode.CLOSEST && candidateIndex != null && enemies == candidates) {
+            return candidateIndex.best(candidateCoverage, this, mode);
+        }
+
+        SlimeEnemy best = null;
+        double bestKey = Double.MAX_VALUE;
+        for (SlimeEnemy e : enemies) {
+            if (e.isDead() || !isInRange(e)) continue;
+
+            double key = mode.key(this, e);
+            if (key < bestKey) {
+                bestKey = key;
+                best = e;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Düşmanın kule merkezine uzaklığı.
+     */
+    protected double distanceTo(SlimeEnemy enemy) {
+        double dx = enemy.getX() - x;
+        double dy = enemy.getY() - y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
 
     /**
      * Sekizgen şekil oluşturur. Bazı kulelerin temel görsel şekli için kullanılır.
@@ -60,6 +227,7 @@ public abstract class Tower {
 
     /**
      * Kuleyi yükseltir. Hasar ve menzili artırır.
+     * Simülasyon thread'inde (oyuncu komutu olarak) çağrılır; renkler bir sonraki render'da güncellenir.
      *
      * @return Eğer seviye arttırılabildiyse true, zaten max ise false
      */
@@ -68,7 +236,6 @@ public abstract class Tower {
         level++;
         this.range *= 1.2;
         this.damage *= 1.3;
-        updateVisualsByLevel();
         return true;
     }
 
@@ -80,27 +247,25 @@ public abstract class Tower {
 
     /**
      * Bir düşman kule menzilinde mi kontrol eder.
+     * Kule şekilleri (0, 0) etrafında çizildiği için (x, y) kule merkezidir.
      *
      * @param e Düşman
      * @return Menzildeyse true
      */
     public boolean isInRange(SlimeEnemy e) {
-        if (e == null || e.getGroup() == null) return false;
-
-        double towerCenterX = x + towerShape.getLayoutBounds().getWidth() / 2;
-        double towerCenterY = y + towerShape.getLayoutBounds().getHeight() / 2;
-
-        double enemyCenterX = e.getGroup().getTranslateX() + e.getGroup().getLayoutBounds().getWidth() / 2;
-        double enemyCenterY = e.getGroup().getTranslateY() + e.getGroup().getLayoutBounds().getHeight() / 2;
-
-        double dx = enemyCenterX - towerCenterX;
-        double dy = enemyCenterY - towerCenterY;
-
-        return Math.sqrt(dx * dx + dy * dy) <= range;
+        if (e == null) return false;
+        return distanceTo(e) <= range;
     }
 
     // -------------------- GETTER & SETTER --------------------
 
+    /**
+     * Kule kimliği; oluşturulma sırasıyla artar.
+     */
+    public int getId() {
+        return id;
+    }
+
     public double getX() {
         return x;
     }
@@ -125,6 +290,27 @@ public abstract class Tower {
         return level;
     }
 
+    /**
+     * Oyuncunun seçtiği hedefleme modu.
+     */
+    public TargetingMode getTargetingMode() {
+        return targetingMode;
+    }
+
+    /**
+     * Hedefleme modunu değiştirir. Simülasyon thread'inde (oyuncu komutu olarak) çağrılır.
+     */
+    public void setTargetingMode(TargetingMode targetingMode) {
+        this.targetingMode = targetingMode;
+    }
+
+    /**
+     * Kule hedefleme modu kullanıyor mu? Menzildeki herkese ateş eden kuleler false döndürür.
+     */
+    public boolean hasTargetingMode() {
+        return true;
+    }
+
     public int getUpgradeCost() {
         return cost * level / 5; // Örn: 1.seviye için 50, 2.seviye için 100
 
@@ -153,4 +339,20 @@ public abstract class Tower {
     public void setMap(Map map) {
         this.map = map;
     }
+
+    public int getGridRow() {
+        return gridRow;
+    }
+
+    public int getGridCol() {
+        return gridCol;
+    }
+
+    /**
+     * Kulenin bulunduğu hücreyi kaydeder. Sadece Map doluluk tablosu tarafından çağrılır.
+     */
+    public void setGridCell(int row, int col) {
+        this.gridRow = row;
+        this.gridCol = col;
+    }
 }
@@ -1,24 +1,14 @@
 package towers;
 
-import application.ExplosionEffect;
-import application.TowerManager;
+import application.ProjectileSystem;
 import character.SlimeEnemy;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.geometry.Bounds;
-import javafx.geometry.Point2D;
 import javafx.scene.Group;
 import javafx.scene.Node;
-import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * TripleShotTower, aynı anda maksimum 3 düşmana mermi fırlatabilen bir kuledir.
@@ -26,12 +16,16 @@ import java.util.stream.Collectors;
  */
 public class TripleShotTower extends Tower {
 
-    private final double fireCooldown = 1.2; // saniye
-    private long lastFireTime = 0;
+    private static final double FIRE_COOLDOWN = 1.2;   // saniye
+    private static final double SHELL_SPEED = 312.5;   // piksel / saniye
+    private static final int TARGET_COUNT = 3;
 
     private Group node;
     private Rectangle body;
     private Polygon outerOctagon, innerOctagon;
+    private final SlimeEnemy[] targets = new SlimeEnemy[TARGET_COUNT];   // Öncelik sırasıyla seçilen hedefler
+    private final double[] targetKeys = new double[TARGET_COUNT];        // ve hedefleme modu anahtarları
+    private int targetCount;
 
     /**
      * Kule seçim butonları için görsel ön izleme oluşturur.
@@ -91,120 +85,69 @@ public class TripleShotTower extends Tower {
     }
 
     /**
-     * Her frame çağrılır. 3 düşman seçer ve her birine mermi fırlatır.
+     * Bu tick'te ateş edilecekse hedefleme moduna göre menzildeki en öncelikli 3 düşmanı seçer.
+     * Aday listesi kapsam dizininden gelir ve kısadır; tek geçişte ilk 3 tutulur, sıralama yapılmaz.
+     * Eşit anahtarlılar listedeki sıralarını korur.
      */
     @Override
-    public void update(List<SlimeEnemy> enemies) {
-        long now = System.currentTimeMillis();
-        if (now - lastFireTime < fireCooldown * 1000) return;
-
-        List<SlimeEnemy> targets = enemies.stream()
-                .filter(e -> !e.isDead() && isInRange(e))
-                .sorted(Comparator.comparingDouble(this::getDistanceTo))
-                .limit(3)
-                .collect(Collectors.toList());
-
-        if (!targets.isEmpty()) {
-            for (SlimeEnemy target : targets) {
-                shoot(target);
-            }
-            lastFireTime = now;
-        }
-    }
-
-    /**
-     * Her hedefe ayrı mermi gönderir ve hedefe ulaştığında patlama efektini tetikler.
-     */
-    private void shoot(SlimeEnemy target) {
-        Circle bullet = new Circle(6, Color.ORANGE);
-        Pane grid = TowerManager.getOverlayPane();
-        if (grid == null) return;
-
-        Point2D towerCenterScene = towerShape.localToScene(
-                towerShape.getBoundsInLocal().getWidth() / 2,
-                towerShape.getBoundsInLocal().getHeight() / 2
-        );
-
-        Point2D localStart = grid.sceneToLocal(towerCenterScene);
-        bullet.setTranslateX(localStart.getX());
-        bullet.setTranslateY(localStart.getY());
-        grid.getChildren().add(bullet);
-
-        final Timeline[] timelineRef = new Timeline[1];
-
-        Timeline missileTimeline = new Timeline(new KeyFrame(Duration.millis(16), e -> {
-            if (target.isDead()) {
-                grid.getChildren().remove(bullet);
-                if (timelineRef[0] != null) timelineRef[0].stop();
-                return;
-            }
-
-            Point2D targetPos = getScenePosition(target.getGroup());
-            Point2D localTarget = grid.sceneToLocal(targetPos);
+    public void acquireTargets(double dt, List<SlimeEnemy> enemies) {
+        targetCount = 0;
+        if (cooldown > dt) return;  // Bu tick'te ateş edilmeyecek
 
-            double dx = localTarget.getX() - bullet.getTranslateX();
-            double dy = localTarget.getY() - bullet.getTranslateY();
-            double dist = Math.sqrt(dx * dx + dy * dy);
+        TargetingMode mode = getTargetingMode();
 
-            // Menzil dışı kontrol
-            Point2D bulletScene = grid.localToScene(bullet.getTranslateX(), bullet.getTranslateY());
-            double bx = bulletScene.getX() - towerCenterScene.getX();
-            double by = bulletScene.getY() - towerCenterScene.getY();
-            double bulletDistance = Math.sqrt(bx * bx + by * by);
+        for (SlimeEnemy e : enemies) {
+            if (e.isDead() || !isInRange(e)) continue;
 
-            if (bulletDistance > range) {
-                grid.getChildren().remove(bullet);
-                if (timelineRef[0] != null) timelineRef[0].stop();
-                return;
-            }
+            double key = mode.key(this, e);
+            int slot = targetCount;
+            while (slot > 0 && key < targetKeys[slot - 1]) slot--;
+            if (slot >= TARGET_COUNT) continue;
 
-            if (dist < 5) {
-                grid.getChildren().remove(bullet);
-                target.takeDamage(damage, () -> grid.getChildren().remove(target.getGroup()));
-                ExplosionEffect.play(localTarget.getX(), localTarget.getY(), grid);
-                if (timelineRef[0] != null) timelineRef[0].stop();
-                return;
+            int last = Math.min(targetCount, TARGET_COUNT - 1);
+            for (int i = last; i > slot; i--) {
+                targets[i] = targets[i - 1];
+                targetKeys[i] = targetKeys[i - 1];
             }
-
-            double step = 5;
-            bullet.setTranslateX(bullet.getTranslateX() + (dx / dist) * step);
-            bullet.setTranslateY(bullet.getTranslateY() + (dy / dist) * step);
-        }));
-
-        missileTimeline.setCycleCount(Timeline.INDEFINITE);
-        missileTimeline.play();
-        timelineRef[0] = missileTimeline;
+            targets[slot] = e;
+            targetKeys[slot] = key;
+            if (targetCount < TARGET_COUNT) targetCount++;
+        }
     }
 
     /**
-     * Seviye yükseldiğinde gövde rengi güncellenir.
+     * Bekleme süresi dolduysa seçilen her hedefe mermi fırlatır.
      */
     @Override
-    protected void updateVisualsByLevel() {
-        switch (level) {
-            case 2 -> body.setFill(Color.LIMEGREEN);
-            case 3 -> body.setFill(Color.AQUA);
+    public void fire(double dt) {
+        cooldown = Math.max(0, cooldown - dt);
+        if (cooldown > 0 || targetCount == 0) return;
+
+        for (int i = 0; i < targetCount; i++) {
+            shoot(targets[i]);
+            targets[i] = null;
         }
+        targetCount = 0;
+        cooldown = FIRE_COOLDOWN;
     }
 
     /**
-     * Düşmanın kuleye olan mesafesini döndürür.
+     * Hedefe kule merkezinden mermi gönderir; isabet hedefin üzerinde patlar.
      */
-    private double getDistanceTo(SlimeEnemy enemy) {
-        double dx = enemy.getGroup().getTranslateX() - x;
-        double dy = enemy.getGroup().getTranslateY() - y;
-        return Math.sqrt(dx * dx + dy * dy);
+    private void shoot(SlimeEnemy target) {
+        ProjectileSystem.spawn(new Projectile(Projectile.Kind.SHELL, x, y, SHELL_SPEED,
+                target, damage, x, y, range));
     }
 
     /**
-     * Bir Node'un sahne merkez konumunu döndürür.
+     * Seviye yükseldiğinde gövde rengi güncellenir.
      */
-    private Point2D getScenePosition(Node node) {
-        Bounds bounds = node.localToScene(node.getBoundsInLocal());
-        return new Point2D(
-                bounds.getMinX() + bounds.getWidth() / 2,
-                bounds.getMinY() + bounds.getHeight() / 2
-        );
+    @Override
+    protected void updateVisualsByLevel() {
+        switch (level) {
+            case 2 -> body.setFill(Color.LIMEGREEN);
+            case 3 -> body.setFill(Color.AQUA);
+        }
     }
 
     /**